@@ -0,0 +1,17 @@
+package com.matheusjfa.application;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public abstract class AsyncNullaryUseCase<OUT> {
+    public abstract CompletableFuture<OUT> execute();
+
+    public static <OUT> AsyncNullaryUseCase<OUT> from(final NullaryUseCase<OUT> useCase, final Executor executor) {
+        return new AsyncNullaryUseCase<>() {
+            @Override
+            public CompletableFuture<OUT> execute() {
+                return CompletableFuture.supplyAsync(useCase::execute, executor);
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.matheusjfa.application;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public abstract class AsyncUnitUseCase<IN> {
+    public abstract CompletableFuture<Void> execute(IN input);
+
+    public static <IN> AsyncUnitUseCase<IN> from(final UnitUseCase<IN> useCase, final Executor executor) {
+        return new AsyncUnitUseCase<>() {
+            @Override
+            public CompletableFuture<Void> execute(final IN input) {
+                return CompletableFuture.runAsync(() -> useCase.execute(input), executor);
+            }
+        };
+    }
+}
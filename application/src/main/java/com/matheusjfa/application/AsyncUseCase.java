@@ -0,0 +1,30 @@
+package com.matheusjfa.application;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+public abstract class AsyncUseCase<IN, OUT> {
+    public abstract CompletableFuture<OUT> execute(IN input);
+
+    /**
+     * Adapta um {@link UseCase} bloqueante: cada chamada executa o caso de uso no
+     * {@code executor} informado, e exceções lançadas completam o futuro excepcionalmente.
+     */
+    public static <IN, OUT> AsyncUseCase<IN, OUT> from(final UseCase<IN, OUT> useCase, final Executor executor) {
+        return new AsyncUseCase<>() {
+            @Override
+            public CompletableFuture<OUT> execute(final IN input) {
+                return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return useCase.execute(input);
+                    } catch (final RuntimeException ex) {
+                        throw ex;
+                    } catch (final Exception ex) {
+                        throw new CompletionException(ex);
+                    }
+                }, executor);
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package com.matheusjfa.application;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Política de novas tentativas para casos de uso que fazem leitura-alteração-escrita com
+ * controle de concorrência otimista.
+ * <p>
+ * Entre as tentativas, a espera cresce exponencialmente a partir de {@code initialBackoff},
+ * limitada a {@code maxBackoff}, com jitter aleatório para que escritores em conflito não
+ * voltem a colidir no mesmo instante.
+ *
+ * @param maxAttempts número total de tentativas, incluindo a primeira.
+ */
+public record RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+
+    private static final RetryPolicy DEFAULT = new RetryPolicy(5, Duration.ofMillis(1), Duration.ofMillis(50));
+    private static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO);
+
+    public RetryPolicy {
+        Objects.requireNonNull(initialBackoff, "O intervalo inicial não pode ser nulo");
+        Objects.requireNonNull(maxBackoff, "O intervalo máximo não pode ser nulo");
+
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("A política deve permitir ao menos uma tentativa");
+        }
+    }
+
+    public static RetryPolicy defaults() {
+        return DEFAULT;
+    }
+
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    public boolean canRetry(final int attempt) {
+        return attempt < this.maxAttempts;
+    }
+
+    /**
+     * Aguarda antes da tentativa seguinte a {@code attempt} (contada a partir de 1).
+     */
+    public void backoff(final int attempt) {
+        final var initial = this.initialBackoff.toNanos();
+        if (initial <= 0) {
+            return;
+        }
+
+        final var exponential = initial << Math.min(attempt - 1, 20);
+        final var bound = Math.min(exponential, this.maxBackoff.toNanos());
+
+        if (bound > 0) {
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(bound / 2, bound + 1));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.matheusjfa.application;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executores para as variantes assíncronas dos casos de uso.
+ */
+public final class UseCaseExecutors {
+
+    private UseCaseExecutors() {
+    }
+
+    /**
+     * Retorna um executor que cria uma virtual thread por tarefa, para que milhares de chamadas
+     * concorrentes possam bloquear em I/O do gateway sem esgotar threads de plataforma.
+     * <p>
+     * O projeto compila para Java 17, então o executor é obtido por reflexão quando a JVM em
+     * execução oferece virtual threads (Java 21+). Em JVMs anteriores, o retorno é um executor
+     * com threads de plataforma daemon criadas sob demanda, com a mesma semântica de uma
+     * thread por tarefa.
+     */
+    public static ExecutorService virtualThreadPerTaskExecutor() {
+        try {
+            final var factory = MethodHandles.publicLookup().findStatic(
+                    Executors.class,
+                    "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class)
+            );
+            return (ExecutorService) factory.invoke();
+        } catch (final NoSuchMethodException | IllegalAccessException ex) {
+            return Executors.newCachedThreadPool(daemonThreads());
+        } catch (final Throwable ex) {
+            throw new IllegalStateException("Não foi possível criar o executor de virtual threads", ex);
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        final var counter = new AtomicLong();
+
+        return runnable -> {
+            final var thread = new Thread(runnable, "use-case-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
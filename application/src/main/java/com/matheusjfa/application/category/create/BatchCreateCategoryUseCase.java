@@ -0,0 +1,10 @@
+package com.matheusjfa.application.category.create;
+
+import com.matheusjfa.application.UseCase;
+import com.matheusjfa.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public abstract class BatchCreateCategoryUseCase extends UseCase<List<CreateCategoryCommand>, List<Either<Notification, CreateCategoryOutput>>> {
+}
@@ -0,0 +1,73 @@
+package com.matheusjfa.application.category.create;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryGateway;
+import com.matheusjfa.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import io.vavr.control.Try;
+
+import java.util.List;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static io.vavr.API.Try;
+
+/**
+ * Cria várias categorias de uma vez: os comandos são validados em paralelo e as categorias
+ * válidas são gravadas em uma única chamada a {@link CategoryGateway#createAll(List)}.
+ * <p>
+ * O resultado preserva a ordem dos comandos. Comandos inválidos retornam sua própria
+ * {@link Notification}; se a gravação em lote falhar, todos os comandos válidos retornam a
+ * notificação da falha.
+ */
+public class DefaultBatchCreateCategoryUseCase extends BatchCreateCategoryUseCase {
+
+    private final CategoryGateway gateway;
+
+    public DefaultBatchCreateCategoryUseCase(final CategoryGateway gateway) {
+        this.gateway = gateway;
+    }
+
+    @Override
+    public List<Either<Notification, CreateCategoryOutput>> execute(final List<CreateCategoryCommand> commands) {
+        final var validated = commands.parallelStream()
+                .map(DefaultBatchCreateCategoryUseCase::validate)
+                .toList();
+
+        final var valid = validated.stream()
+                .filter(Either::isRight)
+                .map(Either::get)
+                .toList();
+
+        if (valid.isEmpty()) {
+            return validated.stream()
+                    .map(result -> result.map(CreateCategoryOutput::from))
+                    .toList();
+        }
+
+        final var created = Try(() -> this.gateway.createAll(valid)).toEither();
+
+        return validated.stream()
+                .map(result -> result.isLeft() ? result.map(CreateCategoryOutput::from) : created(created, result.get()))
+                .toList();
+    }
+
+    private static Either<Notification, Category> validate(final CreateCategoryCommand command) {
+        final var notification = Notification.create();
+        final var category = Category.create(command.name(), command.description(), command.isActive());
+
+        return Try.run(() -> category.validate(notification))
+                .toEither()
+                .mapLeft(Notification::create)
+                .flatMap(ignored -> notification.hasErrors() ? Left(notification) : Right(category));
+    }
+
+    private static Either<Notification, CreateCategoryOutput> created(
+            final Either<Throwable, List<Category>> created,
+            final Category category
+    ) {
+        return created.isLeft()
+                ? Left(Notification.create(created.getLeft()))
+                : Right(CreateCategoryOutput.from(category));
+    }
+}
@@ -1,24 +1,39 @@
 package com.matheusjfa.application.category.update;
 
+import com.matheusjfa.application.RetryPolicy;
 import com.matheusjfa.domain.category.Category;
 import com.matheusjfa.domain.category.CategoryGateway;
 import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.domain.exceptions.ConcurrencyConflictException;
 import com.matheusjfa.domain.exceptions.DomainException;
 import com.matheusjfa.domain.validation.ErrorMessage;
 import com.matheusjfa.domain.validation.handler.Notification;
 import io.vavr.control.Either;
 
+import java.util.Objects;
 import java.util.function.Supplier;
 
 import static io.vavr.API.Left;
 import static io.vavr.API.Try;
 
+/**
+ * Atualiza uma categoria com controle de concorrência otimista: a escrita só é aceita pelo
+ * gateway se a categoria não mudou desde a leitura. Em caso de conflito, a leitura, a
+ * alteração e a validação são refeitas sobre o estado mais recente, conforme a
+ * {@link RetryPolicy}; esgotadas as tentativas, o conflito é devolvido na notificação.
+ */
 public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
 
     private final CategoryGateway gateway;
+    private final RetryPolicy retryPolicy;
 
     public DefaultUpdateCategoryUseCase(final CategoryGateway gateway) {
+        this(gateway, RetryPolicy.defaults());
+    }
+
+    public DefaultUpdateCategoryUseCase(final CategoryGateway gateway, final RetryPolicy retryPolicy) {
         this.gateway = gateway;
+        this.retryPolicy = Objects.requireNonNull(retryPolicy);
     }
 
     private static Supplier<Exception> notFound(CategoryID id) {
@@ -32,19 +47,33 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         final var description = command.description();
         final var isActive = command.isActive();
 
-        final var notification = Notification.create();
+        for (int attempt = 1; ; attempt++) {
+            final var notification = Notification.create();
+
+            // Category é imutável: vale a instância retornada por update.
+            final var category = this.gateway.findById(id)
+                    .orElseThrow(notFound(id));
+
+            final var updated = category.update(name, description, isActive);
+            updated.validate(notification);
+
+            if (notification.hasErrors()) {
+                return Left(notification);
+            }
 
-        final var category = this.gateway.findById(id)
-                .orElseThrow(notFound(id));
+            final var result = update(updated);
 
-        category.update(name, description, isActive);
-        category.validate(notification);
+            if (result.isLeft() && result.getLeft() instanceof ConcurrencyConflictException && this.retryPolicy.canRetry(attempt)) {
+                this.retryPolicy.backoff(attempt);
+                continue;
+            }
 
-        return notification.hasErrors() ? Left(notification) : update(category);
+            return result.bimap(Notification::create, UpdateCategoryOutput::from);
+        }
     }
 
-    private Either<Notification, UpdateCategoryOutput> update(final Category category) {
-        return Try(() -> this.gateway.update(category)).toEither().bimap(Notification::create, UpdateCategoryOutput::from);
+    private Either<Throwable, Category> update(final Category category) {
+        return Try(() -> this.gateway.update(category)).toEither();
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.matheusjfa.application.metrics;
+
+import com.matheusjfa.application.NullaryUseCase;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+
+/**
+ * Decorador que registra latência e resultado de cada execução de um {@link NullaryUseCase}.
+ */
+public class InstrumentedNullaryUseCase<OUT> extends NullaryUseCase<OUT> {
+
+    private final NullaryUseCase<OUT> delegate;
+    private final UseCaseMetrics metrics;
+
+    public InstrumentedNullaryUseCase(final NullaryUseCase<OUT> delegate, final UseCaseMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    public InstrumentedNullaryUseCase(final NullaryUseCase<OUT> delegate, final MetricsRegistry registry) {
+        this(delegate, registry.metricsFor(MetricsRegistry.nameOf(delegate)));
+    }
+
+    @Override
+    public OUT execute() {
+        final var startedAt = this.metrics.start();
+        final OUT output;
+
+        try {
+            output = this.delegate.execute();
+        } catch (final RuntimeException | Error ex) {
+            this.metrics.failure(startedAt);
+            throw ex;
+        }
+
+        if (output instanceof Either<?, ?> either && either.isLeft()) {
+            this.metrics.rejection(startedAt);
+        } else {
+            this.metrics.success(startedAt);
+        }
+
+        return output;
+    }
+}
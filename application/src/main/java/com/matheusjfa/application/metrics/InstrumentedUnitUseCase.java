@@ -0,0 +1,37 @@
+package com.matheusjfa.application.metrics;
+
+import com.matheusjfa.application.UnitUseCase;
+
+import java.util.Objects;
+
+/**
+ * Decorador que registra latência e resultado de cada execução de um {@link UnitUseCase}.
+ */
+public class InstrumentedUnitUseCase<IN> extends UnitUseCase<IN> {
+
+    private final UnitUseCase<IN> delegate;
+    private final UseCaseMetrics metrics;
+
+    public InstrumentedUnitUseCase(final UnitUseCase<IN> delegate, final UseCaseMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    public InstrumentedUnitUseCase(final UnitUseCase<IN> delegate, final MetricsRegistry registry) {
+        this(delegate, registry.metricsFor(MetricsRegistry.nameOf(delegate)));
+    }
+
+    @Override
+    public void execute(final IN input) {
+        final var startedAt = this.metrics.start();
+
+        try {
+            this.delegate.execute(input);
+        } catch (final RuntimeException | Error ex) {
+            this.metrics.failure(startedAt);
+            throw ex;
+        }
+
+        this.metrics.success(startedAt);
+    }
+}
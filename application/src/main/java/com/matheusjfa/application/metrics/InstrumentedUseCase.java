@@ -0,0 +1,48 @@
+package com.matheusjfa.application.metrics;
+
+import com.matheusjfa.application.UseCase;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+
+/**
+ * Decorador que registra latência e resultado de cada execução de um {@link UseCase}.
+ * <p>
+ * Um retorno {@code Left} (tipicamente uma {@code Notification} de validação) conta como
+ * rejeição; exceções lançadas contam como falha e são propagadas sem alteração.
+ */
+public class InstrumentedUseCase<IN, OUT> extends UseCase<IN, OUT> {
+
+    private final UseCase<IN, OUT> delegate;
+    private final UseCaseMetrics metrics;
+
+    public InstrumentedUseCase(final UseCase<IN, OUT> delegate, final UseCaseMetrics metrics) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    public InstrumentedUseCase(final UseCase<IN, OUT> delegate, final MetricsRegistry registry) {
+        this(delegate, registry.metricsFor(MetricsRegistry.nameOf(delegate)));
+    }
+
+    @Override
+    public OUT execute(final IN input) throws Exception {
+        final var startedAt = this.metrics.start();
+        final OUT output;
+
+        try {
+            output = this.delegate.execute(input);
+        } catch (final Exception | Error ex) {
+            this.metrics.failure(startedAt);
+            throw ex;
+        }
+
+        if (output instanceof Either<?, ?> either && either.isLeft()) {
+            this.metrics.rejection(startedAt);
+        } else {
+            this.metrics.success(startedAt);
+        }
+
+        return output;
+    }
+}
@@ -0,0 +1,52 @@
+package com.matheusjfa.application.metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * {@link MetricsRegistry} que publica as métricas de cada caso de uso como um MBean
+ * {@code com.matheusjfa.application:type=UseCase,name=<nome>}.
+ * <p>
+ * Se o {@link MBeanServer} já tiver um MBean com esse nome (por exemplo, de outro registro no
+ * mesmo servidor), a criação das métricas falha em vez de substituí-lo.
+ */
+public class JmxMetricsRegistry extends SimpleMetricsRegistry {
+
+    public static final String DOMAIN = "com.matheusjfa.application";
+
+    private final MBeanServer server;
+
+    public JmxMetricsRegistry() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public JmxMetricsRegistry(final MBeanServer server) {
+        this.server = server;
+    }
+
+    public static ObjectName objectName(final String name) {
+        try {
+            return new ObjectName("%s:type=UseCase,name=%s".formatted(DOMAIN, ObjectName.quote(name)));
+        } catch (final JMException ex) {
+            throw new IllegalArgumentException("Nome de caso de uso inválido para JMX: %s".formatted(name), ex);
+        }
+    }
+
+    @Override
+    protected UseCaseMetrics register(final String name) {
+        final var metrics = super.register(name);
+
+        try {
+            this.server.registerMBean(metrics, objectName(name));
+        } catch (final InstanceAlreadyExistsException ex) {
+            throw new IllegalStateException("Já existe um MBean de métricas para %s no JMX".formatted(name), ex);
+        } catch (final JMException ex) {
+            throw new IllegalStateException("Não foi possível registrar as métricas de %s no JMX".formatted(name), ex);
+        }
+
+        return metrics;
+    }
+}
@@ -0,0 +1,98 @@
+package com.matheusjfa.application.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latências em nanossegundos, no estilo do HdrHistogram.
+ * <p>
+ * Os buckets são log-lineares: cada potência de dois é dividida em {@value #SUB_BUCKETS}
+ * faixas iguais, o que mantém o erro relativo abaixo de ~3% em qualquer escala, de
+ * nanossegundos a dias, com um array fixo de contadores. O registro é apenas um incremento
+ * atômico no bucket do valor, sem locks nem alocação; a leitura dos percentis percorre os
+ * contadores e pode ser feita a qualquer momento, concorrentemente com os registros.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+    private final LongAdder total;
+    private final LongAccumulator max;
+
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+        this.total = new LongAdder();
+        this.max = new LongAccumulator(Math::max, 0L);
+    }
+
+    public void record(final long nanos) {
+        final var value = Math.max(nanos, 0L);
+
+        this.counts.incrementAndGet(indexOf(value));
+        this.total.add(value);
+        this.max.accumulate(value);
+    }
+
+    /**
+     * Valor abaixo do qual está a fração {@code percentile} (entre 0 e 100) das amostras,
+     * arredondado para o limite superior do bucket; zero se não houver amostras.
+     */
+    public long percentile(final double percentile) {
+        final var count = count();
+        if (count == 0) {
+            return 0L;
+        }
+
+        final var rank = Math.max(1L, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+        long seen = 0L;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), max());
+            }
+        }
+
+        return max();
+    }
+
+    public long count() {
+        long count = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            count += this.counts.get(i);
+        }
+        return count;
+    }
+
+    public long max() {
+        return this.max.get();
+    }
+
+    public double mean() {
+        final var count = count();
+        return count == 0 ? 0.0 : (double) this.total.sum() / count;
+    }
+
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKETS * 2) {
+            return (int) value;
+        }
+
+        final var shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    static long highestEquivalentValue(final int index) {
+        if (index < SUB_BUCKETS * 2) {
+            return index;
+        }
+
+        final var shift = index / SUB_BUCKETS - 1;
+        final var subBucket = (long) (index % SUB_BUCKETS + SUB_BUCKETS);
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,29 @@
+package com.matheusjfa.application.metrics;
+
+import java.util.Collection;
+
+/**
+ * Ponto de extensão para publicar as métricas dos casos de uso. Implementações podem
+ * expô-las por JMX ({@link JmxMetricsRegistry}) ou encaminhá-las a outro sistema de
+ * monitoramento.
+ */
+public interface MetricsRegistry {
+
+    /**
+     * Retorna as métricas do caso de uso {@code name}, criando-as na primeira chamada; chamadas
+     * com o mesmo nome retornam a mesma instância.
+     */
+    UseCaseMetrics metricsFor(String name);
+
+    Collection<UseCaseMetrics> all();
+
+    /**
+     * Nome usado pelos decoradores para as métricas de {@code useCase}: o nome simples da
+     * classe ou, para classes anônimas e lambdas, que não têm nome simples, o nome completo.
+     */
+    static String nameOf(final Object useCase) {
+        final var type = useCase.getClass();
+        final var simpleName = type.getSimpleName();
+        return simpleName.isEmpty() ? type.getName() : simpleName;
+    }
+}
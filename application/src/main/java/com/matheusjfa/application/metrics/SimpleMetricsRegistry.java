@@ -0,0 +1,32 @@
+package com.matheusjfa.application.metrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link MetricsRegistry} que apenas mantém as métricas em memória.
+ */
+public class SimpleMetricsRegistry implements MetricsRegistry {
+
+    private final ConcurrentMap<String, UseCaseMetrics> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public UseCaseMetrics metricsFor(final String name) {
+        final var existing = this.metrics.get(name);
+        return existing != null ? existing : this.metrics.computeIfAbsent(name, this::register);
+    }
+
+    @Override
+    public Collection<UseCaseMetrics> all() {
+        return List.copyOf(this.metrics.values());
+    }
+
+    /**
+     * Cria as métricas de um caso de uso; chamado uma única vez por nome.
+     */
+    protected UseCaseMetrics register(final String name) {
+        return new UseCaseMetrics(name);
+    }
+}
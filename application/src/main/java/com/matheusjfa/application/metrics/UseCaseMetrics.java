@@ -0,0 +1,111 @@
+package com.matheusjfa.application.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas de um caso de uso: latência de cada execução e contadores de sucessos,
+ * rejeições ({@code Left(Notification)}) e falhas (exceções lançadas), além das execuções
+ * em andamento. Todos os registros são lock-free e podem ser feitos por várias threads.
+ */
+public class UseCaseMetrics implements UseCaseMetricsMBean {
+
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    private final String name;
+    private final LatencyHistogram latency;
+    private final LongAdder successes;
+    private final LongAdder rejections;
+    private final LongAdder failures;
+    private final LongAdder inFlight;
+
+    public UseCaseMetrics(final String name) {
+        this.name = name;
+        this.latency = new LatencyHistogram();
+        this.successes = new LongAdder();
+        this.rejections = new LongAdder();
+        this.failures = new LongAdder();
+        this.inFlight = new LongAdder();
+    }
+
+    /**
+     * Marca o início de uma execução e retorna o instante, em nanossegundos, a ser repassado
+     * a um dos métodos de término.
+     */
+    long start() {
+        this.inFlight.increment();
+        return System.nanoTime();
+    }
+
+    void success(final long startedAt) {
+        finish(startedAt);
+        this.successes.increment();
+    }
+
+    void rejection(final long startedAt) {
+        finish(startedAt);
+        this.rejections.increment();
+    }
+
+    void failure(final long startedAt) {
+        finish(startedAt);
+        this.failures.increment();
+    }
+
+    private void finish(final long startedAt) {
+        this.latency.record(System.nanoTime() - startedAt);
+        this.inFlight.decrement();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public long getSuccessCount() {
+        return successes.sum();
+    }
+
+    @Override
+    public long getRejectionCount() {
+        return rejections.sum();
+    }
+
+    @Override
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    @Override
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return latency.mean() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return latency.percentile(50.0) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return latency.percentile(99.0) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return latency.percentile(99.9) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return latency.max() / NANOS_PER_MICRO;
+    }
+}
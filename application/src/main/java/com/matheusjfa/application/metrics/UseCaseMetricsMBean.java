@@ -0,0 +1,24 @@
+package com.matheusjfa.application.metrics;
+
+/**
+ * Interface de gerenciamento (JMX) de {@link UseCaseMetrics}. Latências em microssegundos.
+ */
+public interface UseCaseMetricsMBean {
+    long getSuccessCount();
+
+    long getRejectionCount();
+
+    long getFailureCount();
+
+    long getInFlight();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    double getMaxMicros();
+}
@@ -0,0 +1,72 @@
+package com.matheusjfa.application;
+
+import com.matheusjfa.application.category.create.CreateCategoryCommand;
+import com.matheusjfa.application.category.create.DefaultCreateCategoryUseCase;
+import com.matheusjfa.application.category.update.DefaultUpdateCategoryUseCase;
+import com.matheusjfa.application.category.update.UpdateCategoryCommand;
+import com.matheusjfa.domain.category.CategoryGateway;
+import com.matheusjfa.domain.exceptions.DomainException;
+import com.matheusjfa.domain.validation.ErrorMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncUseCaseTest {
+
+    @Test
+    @DisplayName("Dado um caso de uso adaptado, quando executar várias chamadas concorrentes, todas devem completar com sucesso")
+    public void givenAnAdaptedUseCase_whenExecutingManyConcurrentCalls_thenAllShouldComplete() throws Exception {
+        final var categoryGateway = Mockito.mock(CategoryGateway.class);
+        Mockito.when(categoryGateway.create(Mockito.any()))
+                .thenAnswer(returnsFirstArg());
+
+        try (final var executor = new AutoCloseableExecutor()) {
+            final var useCase = AsyncUseCase.from(new DefaultCreateCategoryUseCase(categoryGateway), executor.service);
+            final var futures = new ArrayList<CompletableFuture<?>>();
+
+            for (int i = 0; i < 1_000; i++) {
+                futures.add(useCase.execute(CreateCategoryCommand.with("Categoria " + i, null, true)));
+            }
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get();
+        }
+
+        Mockito.verify(categoryGateway, Mockito.times(1_000)).create(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Dado um caso de uso que lança exceção, quando executar de forma assíncrona, o futuro deve completar com a exceção")
+    public void givenAThrowingUseCase_whenExecutingAsync_thenFutureShouldCompleteExceptionally() throws Exception {
+        final var categoryGateway = Mockito.mock(CategoryGateway.class);
+        Mockito.when(categoryGateway.findById(Mockito.any()))
+                .thenThrow(DomainException.with(new ErrorMessage("Não foi encontrado nenhuma categoria com o ID invalid-id")));
+
+        try (final var executor = new AutoCloseableExecutor()) {
+            final var useCase = AsyncUseCase.from(new DefaultUpdateCategoryUseCase(categoryGateway), executor.service);
+            final var future = useCase.execute(UpdateCategoryCommand.with("invalid-id", "Filmes", null, true));
+
+            final var exception = assertThrows(ExecutionException.class, future::get);
+            assertInstanceOf(DomainException.class, exception.getCause());
+        }
+    }
+
+    private static class AutoCloseableExecutor implements AutoCloseable {
+        private final ExecutorService service = UseCaseExecutors.virtualThreadPerTaskExecutor();
+
+        @Override
+        public void close() {
+            this.service.shutdown();
+        }
+    }
+}
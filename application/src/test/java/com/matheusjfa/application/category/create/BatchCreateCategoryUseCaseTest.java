@@ -0,0 +1,86 @@
+package com.matheusjfa.application.category.create;
+
+import com.matheusjfa.domain.category.CategoryGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+
+@ExtendWith(MockitoExtension.class)
+class BatchCreateCategoryUseCaseTest {
+
+    @Test
+    @DisplayName("Dado comandos válidos e inválidos, quando chamar o método 'execute', deve gravar apenas os válidos em uma única chamada")
+    public void givenValidAndInvalidCommands_whenCallingExecute_shouldCreateOnlyValidOnesInASingleCall() {
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", "Filmes em geral", true),
+                CreateCategoryCommand.with("  ", "Nome vazio", true),
+                CreateCategoryCommand.with("Séries", null, false)
+        );
+
+        final var categoryGateway = Mockito.mock(CategoryGateway.class);
+        Mockito.when(categoryGateway.createAll(Mockito.any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var useCase = new DefaultBatchCreateCategoryUseCase(categoryGateway);
+        final var results = useCase.execute(commands);
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isRight());
+        assertTrue(results.get(1).isLeft());
+        assertTrue(results.get(2).isRight());
+
+        final var expectedErrorMessage = "O nome da categoria não pode ser vazio";
+        assertEquals(expectedErrorMessage, results.get(1).getLeft().getErrors().get(0).message());
+
+        Mockito.verify(categoryGateway, Mockito.times(1))
+                .createAll(Mockito.argThat(categories -> categories.size() == 2
+                        && categories.get(0).getName().equals("Filmes")
+                        && categories.get(1).getName().equals("Séries")));
+        Mockito.verify(categoryGateway, Mockito.times(0)).create(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Dado apenas comandos inválidos, quando chamar o método 'execute', não deve chamar o gateway")
+    public void givenOnlyInvalidCommands_whenCallingExecute_shouldNotCallTheGateway() {
+        final var commands = List.of(
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("ab", null, true)
+        );
+
+        final var categoryGateway = Mockito.mock(CategoryGateway.class);
+        final var useCase = new DefaultBatchCreateCategoryUseCase(categoryGateway);
+
+        final var results = useCase.execute(commands);
+
+        assertTrue(results.stream().allMatch(result -> result.isLeft()));
+        Mockito.verify(categoryGateway, Mockito.times(0)).createAll(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar a notificação da falha para cada comando válido quando o Gateway falhar")
+    public void givenAGatewayFailure_whenCallingExecute_shouldReturnTheFailureForEachValidCommand() {
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("", null, true),
+                CreateCategoryCommand.with("Séries", null, true)
+        );
+
+        final var categoryGateway = Mockito.mock(CategoryGateway.class);
+        Mockito.when(categoryGateway.createAll(Mockito.any()))
+                .thenThrow(new RuntimeException("Falha no Gateway"));
+
+        final var useCase = new DefaultBatchCreateCategoryUseCase(categoryGateway);
+        final var results = useCase.execute(commands);
+
+        assertEquals("Falha no Gateway", results.get(0).getLeft().getErrors().get(0).message());
+        assertEquals("O nome da categoria não pode ser vazio", results.get(1).getLeft().getErrors().get(0).message());
+        assertEquals("Falha no Gateway", results.get(2).getLeft().getErrors().get(0).message());
+    }
+}
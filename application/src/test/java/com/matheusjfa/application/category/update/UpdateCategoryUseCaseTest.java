@@ -1,7 +1,9 @@
 package com.matheusjfa.application.category.update;
 
+import com.matheusjfa.application.RetryPolicy;
 import com.matheusjfa.domain.category.Category;
 import com.matheusjfa.domain.category.CategoryGateway;
+import com.matheusjfa.domain.exceptions.ConcurrencyConflictException;
 import com.matheusjfa.domain.exceptions.DomainException;
 import com.matheusjfa.domain.validation.ErrorMessage;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -215,4 +218,52 @@ class UpdateCategoryUseCaseTest {
         Mockito.verify(categoryGateway, Mockito.times(1))
                 .update(Mockito.any());
     }
+
+    @Test
+    @DisplayName("Dado um conflito de versão, quando chamar o método 'execute', deve reler a categoria e tentar novamente")
+    public void givenAVersionConflict_whenCallingExecute_shouldRereadAndRetry() throws Exception {
+        final var category = Category.create("Filmes", null, true);
+        final var command = UpdateCategoryCommand.with(category.getId().getValue(), "Séries", null, true);
+
+        final var categoryGateway = Mockito.mock(CategoryGateway.class);
+
+        Mockito.when(categoryGateway.findById(Mockito.any()))
+                .thenReturn(Optional.of(Category.with(category)))
+                .thenReturn(Optional.of(Category.with(category)));
+
+        Mockito.when(categoryGateway.update(Mockito.any()))
+                .thenThrow(ConcurrencyConflictException.with(category.getId(), 0, 1))
+                .thenAnswer(returnsFirstArg());
+
+        final var useCase = new DefaultUpdateCategoryUseCase(categoryGateway, new RetryPolicy(3, Duration.ZERO, Duration.ZERO));
+        final var output = useCase.execute(command).get();
+
+        assertEquals(category.getId(), output.id());
+
+        Mockito.verify(categoryGateway, Mockito.times(2)).findById(Mockito.any());
+        Mockito.verify(categoryGateway, Mockito.times(2)).update(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Dado conflitos em todas as tentativas, quando chamar o método 'execute', deve retornar o conflito na notificação")
+    public void givenConflictsOnEveryAttempt_whenCallingExecute_shouldReturnTheConflictAsNotification() throws Exception {
+        final var category = Category.create("Filmes", null, true);
+        final var command = UpdateCategoryCommand.with(category.getId().getValue(), "Séries", null, true);
+        final var conflict = ConcurrencyConflictException.with(category.getId(), 0, 1);
+
+        final var categoryGateway = Mockito.mock(CategoryGateway.class);
+
+        Mockito.when(categoryGateway.findById(Mockito.any()))
+                .thenAnswer(invocation -> Optional.of(Category.with(category)));
+
+        Mockito.when(categoryGateway.update(Mockito.any()))
+                .thenThrow(conflict);
+
+        final var useCase = new DefaultUpdateCategoryUseCase(categoryGateway, new RetryPolicy(3, Duration.ZERO, Duration.ZERO));
+        final var notification = useCase.execute(command).getLeft();
+
+        assertEquals(conflict.getMessage(), notification.getErrors().get(0).message());
+
+        Mockito.verify(categoryGateway, Mockito.times(3)).update(Mockito.any());
+    }
 }
@@ -0,0 +1,120 @@
+package com.matheusjfa.application.metrics;
+
+import com.matheusjfa.application.NullaryUseCase;
+import com.matheusjfa.application.category.create.CreateCategoryCommand;
+import com.matheusjfa.application.category.create.DefaultCreateCategoryUseCase;
+import com.matheusjfa.domain.category.CategoryGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.management.MBeanServerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+
+@ExtendWith(MockitoExtension.class)
+class InstrumentedUseCaseTest {
+
+    @Test
+    @DisplayName("Dado um caso de uso instrumentado, quando executar, deve contar sucessos, rejeições e falhas separadamente")
+    public void givenAnInstrumentedUseCase_whenExecuting_thenShouldCountSuccessesRejectionsAndFailures() throws Exception {
+        final var categoryGateway = Mockito.mock(CategoryGateway.class);
+        Mockito.when(categoryGateway.create(Mockito.any()))
+                .thenAnswer(returnsFirstArg())
+                .thenThrow(new IllegalStateException("Falha no Gateway"));
+
+        final var registry = new SimpleMetricsRegistry();
+        final var useCase = new InstrumentedUseCase<>(new DefaultCreateCategoryUseCase(categoryGateway), registry);
+
+        assertTrue(useCase.execute(CreateCategoryCommand.with("Filmes", null, true)).isRight());
+        assertTrue(useCase.execute(CreateCategoryCommand.with("ab", null, true)).isLeft());
+        assertTrue(useCase.execute(CreateCategoryCommand.with("Séries", null, true)).isLeft());
+
+        final var metrics = registry.metricsFor("DefaultCreateCategoryUseCase");
+
+        assertEquals(1, metrics.getSuccessCount());
+        assertEquals(2, metrics.getRejectionCount());
+        assertEquals(0, metrics.getFailureCount());
+        assertEquals(0, metrics.getInFlight());
+        assertEquals(3, metrics.getLatency().count());
+    }
+
+    @Test
+    @DisplayName("Dado um caso de uso que lança exceção, quando executar, deve contar a falha e propagar a exceção")
+    public void givenAThrowingUseCase_whenExecuting_thenShouldCountTheFailureAndRethrow() {
+        final var metrics = new UseCaseMetrics("falha");
+        final var useCase = new InstrumentedNullaryUseCase<String>(new NullaryUseCase<>() {
+            @Override
+            public String execute() {
+                throw new IllegalStateException("Falha");
+            }
+        }, metrics);
+
+        assertThrows(IllegalStateException.class, useCase::execute);
+        assertEquals(1, metrics.getFailureCount());
+        assertEquals(0, metrics.getSuccessCount());
+        assertEquals(0, metrics.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Dado latências registradas, quando consultar os percentis, o erro relativo deve ficar abaixo de 4%")
+    public void givenRecordedLatencies_whenReadingPercentiles_thenRelativeErrorShouldStayBelowFourPercent() {
+        final var histogram = new LatencyHistogram();
+
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        assertEquals(100_000, histogram.count());
+        assertEquals(100_000_000, histogram.max());
+        assertEquals(50_000_000, histogram.percentile(50.0), 50_000_000 * 0.04);
+        assertEquals(99_000_000, histogram.percentile(99.0), 99_000_000 * 0.04);
+        assertEquals(99_900_000, histogram.percentile(99.9), 99_900_000 * 0.04);
+    }
+
+    @Test
+    @DisplayName("Dado um registro JMX, quando criar as métricas de um caso de uso, deve publicá-las como MBean")
+    public void givenAJmxRegistry_whenCreatingMetrics_thenShouldPublishThemAsAnMBean() throws Exception {
+        final var server = MBeanServerFactory.newMBeanServer();
+        final var registry = new JmxMetricsRegistry(server);
+
+        registry.metricsFor("DefaultUpdateCategoryUseCase").success(registry.metricsFor("DefaultUpdateCategoryUseCase").start());
+
+        final var name = JmxMetricsRegistry.objectName("DefaultUpdateCategoryUseCase");
+        assertTrue(server.isRegistered(name));
+        assertEquals(1L, server.getAttribute(name, "SuccessCount"));
+    }
+
+    @Test
+    @DisplayName("Dado dois registros JMX no mesmo servidor, quando criar métricas com o mesmo nome, o segundo deve falhar sem substituir o MBean")
+    public void givenTwoJmxRegistriesOnTheSameServer_whenCreatingMetricsWithTheSameName_thenTheSecondShouldFail() throws Exception {
+        final var server = MBeanServerFactory.newMBeanServer();
+        final var first = new JmxMetricsRegistry(server);
+        final var second = new JmxMetricsRegistry(server);
+
+        first.metricsFor("DefaultUpdateCategoryUseCase").success(first.metricsFor("DefaultUpdateCategoryUseCase").start());
+
+        assertThrows(IllegalStateException.class, () -> second.metricsFor("DefaultUpdateCategoryUseCase"));
+        assertEquals(1L, server.getAttribute(JmxMetricsRegistry.objectName("DefaultUpdateCategoryUseCase"), "SuccessCount"));
+    }
+
+    @Test
+    @DisplayName("Dado um caso de uso anônimo, quando instrumentar pelo registro, o nome das métricas não deve ser vazio")
+    public void givenAnAnonymousUseCase_whenInstrumentingThroughTheRegistry_thenMetricsNameShouldNotBeEmpty() {
+        final var registry = new SimpleMetricsRegistry();
+        final var useCase = new NullaryUseCase<String>() {
+            @Override
+            public String execute() {
+                return "ok";
+            }
+        };
+
+        new InstrumentedNullaryUseCase<>(useCase, registry);
+
+        final var metrics = registry.all().iterator().next();
+        assertEquals(useCase.getClass().getName(), metrics.getName());
+    }
+}
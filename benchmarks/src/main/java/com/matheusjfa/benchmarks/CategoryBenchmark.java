@@ -0,0 +1,45 @@
+package com.matheusjfa.benchmarks;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.domain.category.CategoryIDStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryBenchmark {
+
+    @Benchmark
+    public Category create() {
+        return Category.create("Filmes", "Filmes em geral", true);
+    }
+
+    @Benchmark
+    public CategoryID generateId() {
+        return CategoryID.generate();
+    }
+
+    @Benchmark
+    public CategoryID generateRandomId() {
+        return CategoryID.generate(CategoryIDStrategy.RANDOM);
+    }
+
+    @Benchmark
+    public CategoryID generateTimeOrderedId() {
+        return CategoryID.generate(CategoryIDStrategy.TIME_ORDERED);
+    }
+}
@@ -0,0 +1,102 @@
+package com.matheusjfa.benchmarks;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.infrastructure.category.InMemoryCategoryGateway;
+import com.matheusjfa.infrastructure.category.ndjson.CategoryExporter;
+import com.matheusjfa.infrastructure.category.ndjson.CategoryImportResult;
+import com.matheusjfa.infrastructure.category.ndjson.CategoryImporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exportação e importação NDJSON de um catálogo inteiro de {@link #CATALOGUE_SIZE}
+ * categorias. O score já é a vazão em categorias/s.
+ * <p>
+ * O catálogo de origem só é mantido em memória pela exportação ({@link Catalogue}): a
+ * importação lê o arquivo gerado no setup e, como um processo de carga real, não carrega um
+ * segundo catálogo vivo que o GC precise percorrer a cada coleta.
+ * <p>
+ * Cada importação constrói cerca de 85 MB de índices vivos e descarta os da anterior. O heap
+ * é fixado em 2 GB, como em um processo dimensionado para cargas em lote: com o heap inicial
+ * padrão de uma máquina pequena, o score mede o crescimento do heap (coletas completas
+ * seguidas) e não a importação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(CategoryNdjsonBenchmark.CATALOGUE_SIZE)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class CategoryNdjsonBenchmark {
+
+    static final int CATALOGUE_SIZE = 100_000;
+
+    @Param({".ndjson", ".ndjson.gz"})
+    private String extension;
+
+    private Path directory;
+    private Path exported;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("category-ndjson");
+        this.exported = this.directory.resolve("catalogue" + this.extension);
+
+        new CategoryExporter(catalogue()).exportTo(this.exported);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.exported);
+        Files.deleteIfExists(this.directory.resolve("export" + this.extension));
+        Files.deleteIfExists(this.directory);
+    }
+
+    @Benchmark
+    public long export(final Catalogue catalogue) throws IOException {
+        return new CategoryExporter(catalogue.gateway).exportTo(this.directory.resolve("export" + this.extension));
+    }
+
+    @Benchmark
+    public CategoryImportResult importInto() throws Exception {
+        return new CategoryImporter(new InMemoryCategoryGateway()).importFrom(this.exported);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Catalogue {
+        private InMemoryCategoryGateway gateway;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            this.gateway = catalogue();
+        }
+    }
+
+    private static InMemoryCategoryGateway catalogue() {
+        final var gateway = new InMemoryCategoryGateway();
+
+        for (int i = 0; i < CATALOGUE_SIZE; i++) {
+            gateway.create(Category.create("Categoria " + i, "Descrição da categoria " + i, i % 10 != 0));
+        }
+
+        return gateway;
+    }
+}
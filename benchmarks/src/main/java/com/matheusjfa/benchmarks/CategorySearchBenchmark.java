@@ -0,0 +1,78 @@
+package com.matheusjfa.benchmarks;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategorySearchQuery;
+import com.matheusjfa.domain.pagination.Pagination;
+import com.matheusjfa.infrastructure.category.InMemoryCategoryGateway;
+import com.matheusjfa.infrastructure.category.cache.SearchResultCachingCategoryGateway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consultas típicas da listagem administrativa: uma página das categorias ativas mais
+ * recentes, sem termos, e uma página filtrada por termo. {@code sortedByDescription} ordena por
+ * um campo sem índice e serve de referência para o custo de ordenar o catálogo inteiro.
+ * {@code byTermCached} repete a busca por termo através do cache de resultados, como a
+ * listagem faz entre duas escritas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategorySearchBenchmark {
+
+    private static final CategorySearchQuery RECENT_ACTIVE = new CategorySearchQuery(0, 20, "", "updatedAt", "desc", true);
+    private static final CategorySearchQuery BY_DESCRIPTION = new CategorySearchQuery(0, 20, "", "description", "desc", true);
+    private static final CategorySearchQuery BY_TERM = new CategorySearchQuery(0, 20, "categoria 12", "name", "asc", true);
+
+    @Param({"100000"})
+    private int catalogueSize;
+
+    private InMemoryCategoryGateway gateway;
+    private SearchResultCachingCategoryGateway cached;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.gateway = new InMemoryCategoryGateway();
+
+        for (int i = 0; i < this.catalogueSize; i++) {
+            this.gateway.create(Category.create("Categoria " + i, "Descrição da categoria " + i, i % 2 == 0));
+        }
+
+        this.cached = new SearchResultCachingCategoryGateway(this.gateway, 16L << 20);
+    }
+
+    @Benchmark
+    public Pagination<Category> recentActive() {
+        return this.gateway.findAll(RECENT_ACTIVE);
+    }
+
+    @Benchmark
+    public Pagination<Category> sortedByDescription() {
+        return this.gateway.findAll(BY_DESCRIPTION);
+    }
+
+    @Benchmark
+    public Pagination<Category> byTerm() {
+        return this.gateway.findAll(BY_TERM);
+    }
+
+    @Benchmark
+    public Pagination<Category> byTermCached() {
+        return this.cached.findAll(BY_TERM);
+    }
+}
@@ -0,0 +1,71 @@
+package com.matheusjfa.benchmarks;
+
+import com.matheusjfa.application.category.create.CreateCategoryCommand;
+import com.matheusjfa.application.category.create.CreateCategoryOutput;
+import com.matheusjfa.application.category.create.DefaultCreateCategoryUseCase;
+import com.matheusjfa.application.category.update.DefaultUpdateCategoryUseCase;
+import com.matheusjfa.application.category.update.UpdateCategoryCommand;
+import com.matheusjfa.application.category.update.UpdateCategoryOutput;
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.validation.handler.Notification;
+import com.matheusjfa.infrastructure.category.InMemoryCategoryGateway;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryUseCaseBenchmark {
+
+    @Param({"10000"})
+    private int catalogueSize;
+
+    private DefaultCreateCategoryUseCase createUseCase;
+    private DefaultUpdateCategoryUseCase updateUseCase;
+    private CreateCategoryCommand createCommand;
+    private UpdateCategoryCommand[] updateCommands;
+
+    // Recria o gateway a cada iteração para que os creates não acumulem indefinidamente.
+    @Setup(Level.Iteration)
+    public void setUp() {
+        final var gateway = new InMemoryCategoryGateway();
+
+        this.createUseCase = new DefaultCreateCategoryUseCase(gateway);
+        this.updateUseCase = new DefaultUpdateCategoryUseCase(gateway);
+        this.createCommand = CreateCategoryCommand.with("Filmes", "Filmes em geral", true);
+        this.updateCommands = new UpdateCategoryCommand[this.catalogueSize];
+
+        for (int i = 0; i < this.catalogueSize; i++) {
+            final var category = gateway.create(Category.create("Categoria " + i, null, true));
+            this.updateCommands[i] = UpdateCategoryCommand.with(category.getId().getValue(), "Categoria atualizada " + i, "Descrição", i % 2 == 0);
+        }
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> create() throws Exception {
+        return this.createUseCase.execute(this.createCommand);
+    }
+
+    @Benchmark
+    public Either<Notification, UpdateCategoryOutput> update() throws Exception {
+        final var command = this.updateCommands[ThreadLocalRandom.current().nextInt(this.catalogueSize)];
+        return this.updateUseCase.execute(command);
+    }
+}
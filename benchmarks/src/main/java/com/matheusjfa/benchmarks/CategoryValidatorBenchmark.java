@@ -0,0 +1,67 @@
+package com.matheusjfa.benchmarks;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.validation.handler.Notification;
+import com.matheusjfa.domain.validation.handler.ThrowsValidationHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryValidatorBenchmark {
+
+    private Category valid;
+    private Category invalid;
+    private ThrowsValidationHandler throwsHandler;
+
+    @Setup
+    public void setUp() {
+        this.valid = Category.create("Filmes", "Filmes em geral", true);
+        this.invalid = Category.create("ab", "Nome curto demais", true);
+        this.throwsHandler = new ThrowsValidationHandler();
+    }
+
+    @Benchmark
+    public Notification validWithNotification() throws Exception {
+        final var notification = Notification.create();
+        this.valid.validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Notification invalidWithNotification() throws Exception {
+        final var notification = Notification.create();
+        this.invalid.validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public ThrowsValidationHandler validWithThrowsHandler() throws Exception {
+        this.valid.validate(this.throwsHandler);
+        return this.throwsHandler;
+    }
+
+    @Benchmark
+    public Exception invalidWithThrowsHandler() {
+        try {
+            this.invalid.validate(this.throwsHandler);
+            return null;
+        } catch (final Exception ex) {
+            return ex;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.matheusjfa.benchmarks;
+
+import com.matheusjfa.application.category.create.CreateCategoryCommand;
+import com.matheusjfa.application.category.create.CreateCategoryOutput;
+import com.matheusjfa.application.category.create.DefaultCreateCategoryUseCase;
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryCursorQuery;
+import com.matheusjfa.domain.category.CategoryGateway;
+import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.domain.category.CategorySearchQuery;
+import com.matheusjfa.domain.pagination.CursorPagination;
+import com.matheusjfa.domain.pagination.Pagination;
+import com.matheusjfa.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Alocação do acúmulo de erros no caminho de sucesso. Rode com o profiler de GC
+ * ({@code gradle :benchmarks:jmh -PjmhArgs=NotificationBenchmark}) e compare
+ * {@code gc.alloc.rate.norm}: uma notificação sem erros não deve alocar a lista de erros.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationBenchmark {
+
+    private Category valid;
+    private CreateCategoryCommand command;
+    private DefaultCreateCategoryUseCase createUseCase;
+
+    @Setup
+    public void setUp() {
+        this.valid = Category.create("Filmes", "Filmes em geral", true);
+        this.command = CreateCategoryCommand.with("Filmes", "Filmes em geral", true);
+        this.createUseCase = new DefaultCreateCategoryUseCase(new DiscardingGateway());
+    }
+
+    @Benchmark
+    public Notification emptyNotification() {
+        return Notification.create();
+    }
+
+    @Benchmark
+    public Notification validateValidCategory() throws Exception {
+        final var notification = Notification.create();
+        this.valid.validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> createUseCaseSuccess() throws Exception {
+        return this.createUseCase.execute(this.command);
+    }
+
+    /**
+     * Gateway que descarta as escritas, para que a medição do caso de uso não inclua o custo
+     * de armazenamento.
+     */
+    private static class DiscardingGateway implements CategoryGateway {
+        @Override
+        public Category create(final Category category) {
+            return category;
+        }
+
+        @Override
+        public List<Category> createAll(final List<Category> categories) {
+            return categories;
+        }
+
+        @Override
+        public Category update(final Category category) {
+            return category;
+        }
+
+        @Override
+        public boolean deleteById(final CategoryID id) {
+            return false;
+        }
+
+        @Override
+        public boolean deleteById(final CategoryID id, final long expectedVersion) {
+            return false;
+        }
+
+        @Override
+        public Optional<Category> findById(final CategoryID id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Pagination<Category> findAll(final CategorySearchQuery query) {
+            return new Pagination<>(query.page(), query.perPage(), 0, List.of());
+        }
+
+        @Override
+        public CursorPagination<Category> findAll(final CategoryCursorQuery query) {
+            return new CursorPagination<>(query.perPage(), null, List.of());
+        }
+    }
+}
@@ -1,7 +1,64 @@
 package com.matheusjfa.domain;
 
+import com.matheusjfa.domain.events.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
+    private static final int INITIAL_EVENT_CAPACITY = 2;
+
+    private final long version;
+    private List<DomainEvent> events;
+
     protected AggregateRoot(final ID id) {
+        this(id, 0L);
+    }
+
+    /**
+     * @param version versão persistida do agregado, usada pelos gateways no controle de
+     *                concorrência otimista: uma atualização só é aceita se a versão informada
+     *                for igual à armazenada.
+     */
+    protected AggregateRoot(final ID id, final long version) {
         super(id);
+        this.version = version;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Eventos registrados por esta instância e ainda não retirados com {@link #pullEvents()}.
+     */
+    public List<DomainEvent> getEvents() {
+        return events == null ? List.of() : Collections.unmodifiableList(events);
+    }
+
+    /**
+     * Retorna os eventos pendentes e os remove desta instância, para que sejam publicados uma
+     * única vez.
+     */
+    public List<DomainEvent> pullEvents() {
+        final var pulled = getEvents();
+        events = null;
+        return pulled;
+    }
+
+    protected void registerEvent(final DomainEvent event) {
+        if (events == null) {
+            events = new ArrayList<>(INITIAL_EVENT_CAPACITY);
+        }
+        events.add(event);
+    }
+
+    /**
+     * Substitui os eventos pendentes por uma cópia dos de {@code previous}; usado quando uma
+     * alteração produz uma nova instância que deve continuar a história da anterior.
+     */
+    protected void copyEventsFrom(final AggregateRoot<ID> previous) {
+        events = previous.events == null ? null : new ArrayList<>(previous.events);
     }
 }
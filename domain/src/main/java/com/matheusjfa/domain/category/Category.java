@@ -5,13 +5,26 @@ import com.matheusjfa.domain.validation.ValidationHandler;
 
 import java.time.Instant;
 
-public class Category extends AggregateRoot<CategoryID> implements Cloneable {
-    private String name;
-    private String description;
-    private boolean isActive;
+/**
+ * Categoria do catálogo.
+ * <p>
+ * Instâncias são imutáveis: {@link #update}, {@link #activate} e {@link #deactivate} retornam
+ * uma nova instância e preservam a original; os campos inalterados são compartilhados, já que
+ * todos são imutáveis. Gateways e caches entregam as instâncias que guardam, de modo que uma
+ * mesma instância pode ser lida por várias threads sem cópias defensivas.
+ * <p>
+ * Criação e alterações registram {@link CategoryEvent}s na instância resultante, que também
+ * herda os eventos ainda pendentes da original; quem grava a categoria os retira com
+ * {@link #pullEvents()} para publicá-los depois da gravação. As instâncias guardadas pelos
+ * gateways não carregam eventos ({@link #withoutEvents()}).
+ */
+public class Category extends AggregateRoot<CategoryID> {
+    private final String name;
+    private final String description;
+    private final boolean isActive;
     private final Instant createdAt;
-    private Instant updatedAt;
-    private Instant deletedAt;
+    private final Instant updatedAt;
+    private final Instant deletedAt;
 
     private Category(
             final CategoryID id,
@@ -20,9 +33,10 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final boolean isActive,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final long version
     ) {
-        super(id);
+        super(id, version);
         this.name = name;
         this.description = description;
         this.isActive = isActive;
@@ -36,7 +50,10 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         final var now = Instant.now();
         final var deleted = (isActive) ? null : now;
 
-        return new Category(id, name, description, isActive, now, now, deleted);
+        final var category = new Category(id, name, description, isActive, now, now, deleted, 0L);
+        category.registerEvent(new CategoryCreated(id, now));
+
+        return category;
     }
 
     public static Category with(Category category) {
@@ -47,7 +64,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 category.isActive(),
                 category.getCreatedAt(),
                 category.getUpdatedAt(),
-                category.getDeletedAt()
+                category.getDeletedAt(),
+                category.getVersion()
         );
     }
 
@@ -60,47 +78,88 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final Instant updatedAt,
             final Instant deletedAt
     ) {
-        return new Category(id, name, description, isActive, createdAt, updatedAt, deletedAt);
+        return new Category(id, name, description, isActive, createdAt, updatedAt, deletedAt, 0L);
+    }
+
+    public static Category with(
+            final CategoryID id,
+            final String name,
+            final String description,
+            final boolean isActive,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt,
+            final long version
+    ) {
+        return new Category(id, name, description, isActive, createdAt, updatedAt, deletedAt, version);
+    }
+
+    /**
+     * Cópia desta categoria com outra versão e sem eventos; usada pelos gateways ao aceitar uma
+     * atualização.
+     */
+    public Category withVersion(final long version) {
+        return new Category(getId(), name, description, isActive, createdAt, updatedAt, deletedAt, version);
+    }
+
+    /**
+     * Esta categoria sem eventos pendentes: a própria instância, se não tiver eventos, ou uma
+     * cópia dela.
+     */
+    public Category withoutEvents() {
+        return getEvents().isEmpty() ? this : withVersion(getVersion());
     }
 
     public Category activate() {
-        if (this.getDeletedAt() != null)
-            this.deletedAt = null;
+        final var now = Instant.now();
+        final var next = successor(name, description, true, now, null);
 
-        this.updatedAt = Instant.now();
-        this.isActive = true;
+        if (!this.isActive)
+            next.registerEvent(new CategoryActivated(getId(), now));
 
-        return this;
+        return next;
     }
 
     public Category deactivate() {
-        if (this.getDeletedAt() == null)
-            this.deletedAt = Instant.now();
-
-        this.updatedAt = Instant.now();
-        this.isActive = false;
+        final var now = Instant.now();
+        final var next = successor(name, description, false, now, deletedAt == null ? now : deletedAt);
 
+        if (this.isActive)
+            next.registerEvent(new CategoryDeactivated(getId(), now));
 
-        return this;
+        return next;
     }
 
     public Category update(final String name, final String description, final boolean isActive) {
-        this.name = name;
-        this.description = description;
+        final var now = Instant.now();
+        final var deleted = isActive ? null : (deletedAt == null ? now : deletedAt);
+        final var next = successor(name, description, isActive, now, deleted);
+
+        next.registerEvent(new CategoryUpdated(getId(), now));
+        if (isActive != this.isActive)
+            next.registerEvent(isActive ? new CategoryActivated(getId(), now) : new CategoryDeactivated(getId(), now));
 
-        if (isActive) {
-            this.activate();
-        } else {
-            this.deactivate();
-        }
+        return next;
+    }
 
-        return this;
+    /**
+     * Nova instância que substitui esta, mantendo seus eventos pendentes.
+     */
+    private Category successor(
+            final String name,
+            final String description,
+            final boolean isActive,
+            final Instant updatedAt,
+            final Instant deletedAt
+    ) {
+        final var next = new Category(getId(), name, description, isActive, createdAt, updatedAt, deletedAt, getVersion());
+        next.copyEventsFrom(this);
+        return next;
     }
 
     @Override
     public void validate(ValidationHandler handler) throws Exception {
-        final var validator = new CategoryValidator(this, handler);
-        validator.validate();
+        CategoryValidator.validate(this, handler);
     }
 
     public String getName() {
@@ -126,9 +185,4 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     public Instant getDeletedAt() {
         return deletedAt;
     }
-
-    @Override
-    public Category clone() throws CloneNotSupportedException {
-        return (Category) super.clone();
-    }
 }
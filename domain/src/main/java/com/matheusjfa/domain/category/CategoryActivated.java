@@ -0,0 +1,6 @@
+package com.matheusjfa.domain.category;
+
+import java.time.Instant;
+
+public record CategoryActivated(CategoryID id, Instant occurredOn) implements CategoryEvent {
+}
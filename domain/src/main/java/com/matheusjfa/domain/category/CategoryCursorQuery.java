@@ -0,0 +1,47 @@
+package com.matheusjfa.domain.category;
+
+/**
+ * @param active filtra pelo estado da categoria: {@code true} apenas ativas, {@code false}
+ *               apenas desativadas e {@code null} todas.
+ */
+public record CategoryCursorQuery(
+        String cursor,
+        int perPage,
+        String terms,
+        String sort,
+        String direction,
+        Boolean active
+) {
+    public CategoryCursorQuery(
+            final String cursor,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(cursor, perPage, terms, sort, direction, null);
+    }
+
+    public static CategoryCursorQuery first(
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        return first(perPage, terms, sort, direction, null);
+    }
+
+    public static CategoryCursorQuery first(
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final Boolean active
+    ) {
+        return new CategoryCursorQuery(null, perPage, terms, sort, direction, active);
+    }
+
+    public CategoryCursorQuery next(final String cursor) {
+        return new CategoryCursorQuery(cursor, perPage, terms, sort, direction, active);
+    }
+}
@@ -0,0 +1,12 @@
+package com.matheusjfa.domain.category;
+
+import com.matheusjfa.domain.events.DomainEvent;
+
+/**
+ * Eventos do ciclo de vida de uma {@link Category}. Carregam apenas o ID e o instante; os
+ * consumidores que precisarem do estado atual o leem do gateway.
+ */
+public sealed interface CategoryEvent extends DomainEvent
+        permits CategoryCreated, CategoryUpdated, CategoryActivated, CategoryDeactivated, CategoryDeleted {
+    CategoryID id();
+}
@@ -1,18 +1,71 @@
 package com.matheusjfa.domain.category;
 
+import com.matheusjfa.domain.pagination.CursorPagination;
 import com.matheusjfa.domain.pagination.Pagination;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface CategoryGateway {
 
+    int SCAN_BATCH_SIZE = 500;
+
     Category create(Category category);
 
+    List<Category> createAll(List<Category> categories);
+
+    /**
+     * Substitui a categoria armazenada se, e somente se, sua versão for igual à de
+     * {@code category} (compare-and-set); a categoria retornada carrega a versão seguinte.
+     *
+     * @throws com.matheusjfa.domain.exceptions.ConcurrencyConflictException se a categoria foi
+     *                                                                        alterada desde que
+     *                                                                        {@code category} foi lida.
+     */
     Category update(Category category);
 
-    void deleteById(CategoryID id);
+    /**
+     * Remove a categoria; não faz nada se ela não existir.
+     *
+     * @return se a categoria existia e foi removida por esta chamada.
+     */
+    boolean deleteById(CategoryID id);
+
+    /**
+     * Remove a categoria se, e somente se, sua versão armazenada for {@code expectedVersion};
+     * não faz nada se ela já não existir.
+     *
+     * @return se a categoria existia e foi removida por esta chamada.
+     * @throws com.matheusjfa.domain.exceptions.ConcurrencyConflictException se a categoria foi
+     *                                                                        alterada desde que
+     *                                                                        foi lida.
+     */
+    boolean deleteById(CategoryID id, long expectedVersion);
 
     Optional<Category> findById(CategoryID id);
 
     Pagination<Category> findAll(CategorySearchQuery query);
+
+    CursorPagination<Category> findAll(CategoryCursorQuery query);
+
+    /**
+     * Percorre todas as categorias em ordem de criação, em lotes de {@value #SCAN_BATCH_SIZE}.
+     *
+     * @see #streamAll(CategoryCursorQuery)
+     */
+    default Stream<Category> streamAll() {
+        return streamAll(CategoryCursorQuery.first(SCAN_BATCH_SIZE, "", "createdAt", "asc"));
+    }
+
+    /**
+     * Percorre todas as categorias que atendem a {@code query}, a partir do seu cursor, usando
+     * {@code query.perPage()} como tamanho do lote. Cada lote é buscado com
+     * {@link #findAll(CategoryCursorQuery)} apenas quando o anterior foi consumido, então a
+     * memória usada não depende do tamanho do catálogo.
+     */
+    default Stream<Category> streamAll(final CategoryCursorQuery query) {
+        return StreamSupport.stream(new CategoryScan(this, query), false);
+    }
 }
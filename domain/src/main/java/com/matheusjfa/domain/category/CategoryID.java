@@ -5,28 +5,138 @@ import com.matheusjfa.domain.Identifier;
 import java.util.Objects;
 import java.util.UUID;
 
-public class CategoryID extends Identifier {
+/**
+ * Identificador de {@link Category}.
+ * <p>
+ * IDs no formato canônico de UUID em minúsculas (o formato gerado por {@link #generate()})
+ * são guardados como duas metades de 64 bits, sem a {@code String} de 36 caracteres:
+ * {@code equals}/{@code hashCode} comparam apenas os dois longs e o texto é renderizado na
+ * primeira chamada a {@link #getValue()} e reaproveitado nas seguintes. Qualquer outro texto continua aceito e é guardado como está.
+ */
+public class CategoryID extends Identifier implements Comparable<CategoryID> {
+    private static final int UUID_LENGTH = 36;
+    private static final CategoryIDStrategy DEFAULT_STRATEGY = CategoryIDStrategy.fromSystemProperty();
+
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
     private final String value;
 
+    // Texto renderizado de um ID compacto; como em String.hash, uma corrida só o renderiza duas vezes.
+    private String rendered;
+
+    private CategoryID(final long mostSignificantBits, final long leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+        this.value = null;
+    }
+
     private CategoryID(final String value) {
+        this.mostSignificantBits = 0L;
+        this.leastSignificantBits = 0L;
         this.value = Objects.requireNonNull(value, "O Identificador não pode ser nulo");
     }
 
     //    Factory Methods
     public static CategoryID generate() {
-        return CategoryID.from(UUID.randomUUID());
+        return generate(DEFAULT_STRATEGY);
+    }
+
+    public static CategoryID generate(final CategoryIDStrategy strategy) {
+        return strategy.next();
     }
 
     public static CategoryID from(final String id) {
-        return new CategoryID(id);
+        Objects.requireNonNull(id, "O Identificador não pode ser nulo");
+
+        if (id.length() != UUID_LENGTH) {
+            return new CategoryID(id);
+        }
+
+        // Valida e converte numa única passada; qualquer caractere fora do formato canônico
+        // faz o texto ser guardado como está.
+        long mostSignificantBits = 0L;
+        long leastSignificantBits = 0L;
+
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            final var c = id.charAt(i);
+
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return new CategoryID(id);
+                }
+                continue;
+            }
+
+            final int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else {
+                return new CategoryID(id);
+            }
+
+            if (i < 18) {
+                mostSignificantBits = mostSignificantBits << 4 | digit;
+            } else {
+                leastSignificantBits = leastSignificantBits << 4 | digit;
+            }
+        }
+
+        return new CategoryID(mostSignificantBits, leastSignificantBits);
     }
 
     public static CategoryID from(final UUID id) {
-        return new CategoryID(id.toString().toLowerCase());
+        return new CategoryID(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    public static CategoryID from(final long mostSignificantBits, final long leastSignificantBits) {
+        return new CategoryID(mostSignificantBits, leastSignificantBits);
     }
 
     public String getValue() {
-        return value;
+        if (!isCompact()) {
+            return value;
+        }
+
+        var text = rendered;
+
+        if (text == null) {
+            text = new UUID(mostSignificantBits, leastSignificantBits).toString();
+            rendered = text;
+        }
+
+        return text;
+    }
+
+    /**
+     * Indica se o ID é um UUID canônico, representado por {@link #getMostSignificantBits()} e
+     * {@link #getLeastSignificantBits()}; caso contrário, só {@link #getValue()} o representa.
+     */
+    public boolean isUuid() {
+        return isCompact();
+    }
+
+    public long getMostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSignificantBits;
+    }
+
+    private boolean isCompact() {
+        return value == null;
+    }
+
+    @Override
+    public int compareTo(final CategoryID other) {
+        if (this.isCompact() && other.isCompact()) {
+            final var byMost = Long.compareUnsigned(this.mostSignificantBits, other.mostSignificantBits);
+            return byMost != 0 ? byMost : Long.compareUnsigned(this.leastSignificantBits, other.leastSignificantBits);
+        }
+
+        return this.getValue().compareTo(other.getValue());
     }
 
     @Override
@@ -34,11 +144,23 @@ public class CategoryID extends Identifier {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         CategoryID that = (CategoryID) o;
-        return Objects.equals(value, that.value);
+        return mostSignificantBits == that.mostSignificantBits
+                && leastSignificantBits == that.leastSignificantBits
+                && Objects.equals(value, that.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(value);
+        if (!isCompact()) {
+            return value.hashCode();
+        }
+
+        final var bits = mostSignificantBits ^ leastSignificantBits;
+        return (int) (bits >> 32) ^ (int) bits;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
     }
 }
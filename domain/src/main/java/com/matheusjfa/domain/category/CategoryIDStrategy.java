@@ -0,0 +1,95 @@
+package com.matheusjfa.domain.category;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Estratégias de geração de {@link CategoryID}.
+ * <p>
+ * {@link #RANDOM} usa {@link UUID#randomUUID()}, que passa por um {@code SecureRandom}
+ * compartilhado. {@link #TIME_ORDERED} gera UUIDs no layout da versão 7: 48 bits com o
+ * instante em milissegundos, 12 bits de sequência e 62 bits aleatórios. O estado fica em
+ * cada thread e a aleatoriedade vem de {@link ThreadLocalRandom}, então não há lock
+ * compartilhado; os IDs de uma mesma thread são estritamente crescentes e os de threads
+ * diferentes ficam ordenados por milissegundo.
+ * <p>
+ * A estratégia usada por {@link CategoryID#generate()} pode ser escolhida pela propriedade de
+ * sistema {@value #PROPERTY}; o padrão é {@link #RANDOM}. Um valor desconhecido também usa
+ * {@link #RANDOM}, com um aviso que nomeia a propriedade, em vez de impedir a carga de
+ * {@link CategoryID}.
+ */
+public enum CategoryIDStrategy {
+    RANDOM {
+        @Override
+        public CategoryID next() {
+            return CategoryID.from(UUID.randomUUID());
+        }
+    },
+
+    TIME_ORDERED {
+        @Override
+        public CategoryID next() {
+            final var clock = CLOCK.get();
+            final var now = System.currentTimeMillis();
+            final var random = ThreadLocalRandom.current();
+
+            if (now > clock.millis) {
+                clock.millis = now;
+                // Começa na metade inferior para sobrar espaço para IDs gerados no mesmo milissegundo.
+                clock.sequence = random.nextInt(MAX_SEQUENCE / 2);
+            } else if (++clock.sequence > MAX_SEQUENCE) {
+                clock.millis++;
+                clock.sequence = 0;
+            }
+
+            final var mostSignificantBits = (clock.millis & TIMESTAMP_MASK) << 16 | VERSION_7 | clock.sequence;
+            final var leastSignificantBits = random.nextLong() & VARIANT_MASK | VARIANT_IETF;
+            return CategoryID.from(new UUID(mostSignificantBits, leastSignificantBits));
+        }
+    };
+
+    public static final String PROPERTY = "com.matheusjfa.category.id.strategy";
+
+    private static final int MAX_SEQUENCE = 0xFFF;
+    private static final long TIMESTAMP_MASK = 0xFFFF_FFFF_FFFFL;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT_IETF = 0x8000_0000_0000_0000L;
+
+    private static final ThreadLocal<Clock> CLOCK = ThreadLocal.withInitial(Clock::new);
+
+    public abstract CategoryID next();
+
+    static CategoryIDStrategy fromSystemProperty() {
+        return parse(System.getProperty(PROPERTY));
+    }
+
+    static CategoryIDStrategy parse(final String configured) {
+        if (configured == null || configured.isBlank()) {
+            return RANDOM;
+        }
+
+        final var name = configured.trim().toUpperCase(Locale.ROOT);
+
+        for (final var strategy : values()) {
+            if (strategy.name().equals(name)) {
+                return strategy;
+            }
+        }
+
+        System.getLogger(CategoryIDStrategy.class.getName()).log(
+                System.Logger.Level.WARNING,
+                "Valor inválido para a propriedade {0}: \"{1}\"; usando {2}. Valores aceitos: {3}",
+                PROPERTY, configured, RANDOM, Arrays.toString(values())
+        );
+
+        return RANDOM;
+    }
+
+    private static final class Clock {
+        private long millis;
+        private int sequence;
+    }
+}
@@ -0,0 +1,42 @@
+package com.matheusjfa.domain.category;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Percorre todas as categorias de uma consulta por cursor, buscando uma página por vez no
+ * gateway somente quando a anterior foi consumida. Só a página corrente fica em memória.
+ */
+final class CategoryScan extends Spliterators.AbstractSpliterator<Category> {
+
+    private final CategoryGateway gateway;
+
+    private CategoryCursorQuery next;
+    private Iterator<Category> page;
+
+    CategoryScan(final CategoryGateway gateway, final CategoryCursorQuery query) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.gateway = gateway;
+        this.next = query;
+        this.page = Collections.emptyIterator();
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Category> action) {
+        while (!this.page.hasNext()) {
+            if (this.next == null) {
+                return false;
+            }
+
+            final var result = this.gateway.findAll(this.next);
+            this.page = result.items().iterator();
+            this.next = result.hasNext() ? this.next.next(result.nextCursor()) : null;
+        }
+
+        action.accept(this.page.next());
+        return true;
+    }
+}
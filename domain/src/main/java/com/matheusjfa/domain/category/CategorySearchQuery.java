@@ -1,10 +1,24 @@
 package com.matheusjfa.domain.category;
 
+/**
+ * @param active filtra pelo estado da categoria: {@code true} apenas ativas, {@code false}
+ *               apenas desativadas e {@code null} todas.
+ */
 public record CategorySearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        Boolean active
 ) {
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null);
+    }
 }
@@ -0,0 +1,6 @@
+package com.matheusjfa.domain.category;
+
+import java.time.Instant;
+
+public record CategoryUpdated(CategoryID id, Instant occurredOn) implements CategoryEvent {
+}
@@ -4,9 +4,22 @@ import com.matheusjfa.domain.validation.ErrorMessage;
 import com.matheusjfa.domain.validation.ValidationHandler;
 import com.matheusjfa.domain.validation.Validator;
 
+/**
+ * Regras de validação de {@link Category}.
+ * <p>
+ * As mensagens de erro são constantes pré-alocadas e as regras não guardam estado, então
+ * {@link #validate(Category, ValidationHandler)} pode ser chamado diretamente, sem instanciar
+ * um validador: uma categoria válida é verificada sem nenhuma alocação.
+ */
 public class CategoryValidator extends Validator {
-    private final int MIN_NAME_LENGTH = 3;
-    private final int MAX_NAME_LENGTH = 255;
+    public static final int MIN_NAME_LENGTH = 3;
+    public static final int MAX_NAME_LENGTH = 255;
+
+    public static final ErrorMessage NAME_NULL = new ErrorMessage("O nome da categoria não pode ser nulo");
+    public static final ErrorMessage NAME_EMPTY = new ErrorMessage("O nome da categoria não pode ser vazio");
+    public static final ErrorMessage NAME_LENGTH = new ErrorMessage(
+            "O nome da categoria deve ter entre %d e %d caracteres".formatted(MIN_NAME_LENGTH, MAX_NAME_LENGTH)
+    );
 
     private final Category category;
 
@@ -16,27 +29,46 @@ public class CategoryValidator extends Validator {
     }
 
     protected void validate() throws Exception {
-        checkNameConstraints();
+        validate(category, getHandler());
     }
 
-    private void checkNameConstraints() throws Exception {
-        final var name = category.getName();
-        final var handler = getHandler();
+    public static void validate(final Category category, final ValidationHandler handler) throws Exception {
+        checkNameConstraints(category.getName(), handler);
+    }
 
+    private static void checkNameConstraints(final String name, final ValidationHandler handler) throws Exception {
         if (name == null) {
-            handler.append(new ErrorMessage("O nome da categoria não pode ser nulo"));
+            handler.append(NAME_NULL);
             return;
         }
 
         if (name.isBlank()) {
-            handler.append(new ErrorMessage("O nome da categoria não pode ser vazio"));
+            handler.append(NAME_EMPTY);
             return;
         }
 
-        final var nameLength = category.getName().trim().length();
+        final var nameLength = trimmedLength(name);
 
         if (nameLength < MIN_NAME_LENGTH || nameLength > MAX_NAME_LENGTH) {
-            handler.append(new ErrorMessage("O nome da categoria deve ter entre " + MIN_NAME_LENGTH + " e " + MAX_NAME_LENGTH + " caracteres"));
+            handler.append(NAME_LENGTH);
         }
     }
+
+    /**
+     * Mesmo resultado de {@code value.trim().length()}, sem criar a {@code String} aparada.
+     */
+    static int trimmedLength(final String value) {
+        int start = 0;
+        int end = value.length();
+
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        return end - start;
+    }
 }
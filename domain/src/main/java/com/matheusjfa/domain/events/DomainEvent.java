@@ -0,0 +1,11 @@
+package com.matheusjfa.domain.events;
+
+import java.time.Instant;
+
+/**
+ * Fato ocorrido em um agregado, registrado por ele e publicado depois que a alteração for
+ * gravada pelo gateway.
+ */
+public interface DomainEvent {
+    Instant occurredOn();
+}
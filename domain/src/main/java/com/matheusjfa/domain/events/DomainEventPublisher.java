@@ -0,0 +1,12 @@
+package com.matheusjfa.domain.events;
+
+import java.util.List;
+
+public interface DomainEventPublisher {
+
+    /**
+     * Publica os eventos na ordem recebida. Pode bloquear enquanto os consumidores não
+     * acompanharem o ritmo de publicação.
+     */
+    void publish(List<? extends DomainEvent> events);
+}
@@ -0,0 +1,22 @@
+package com.matheusjfa.domain.exceptions;
+
+import com.matheusjfa.domain.Identifier;
+import com.matheusjfa.domain.validation.ErrorMessage;
+
+import java.util.List;
+
+/**
+ * Lançada quando uma atualização parte de uma versão do agregado que já foi substituída por
+ * outra escrita concorrente.
+ */
+public class ConcurrencyConflictException extends DomainException {
+    public ConcurrencyConflictException(final String message) {
+        super(message, List.of(new ErrorMessage(message)));
+    }
+
+    public static ConcurrencyConflictException with(final Identifier id, final long expected, final long actual) {
+        return new ConcurrencyConflictException(
+                "O agregado %s foi alterado por outra operação (versão esperada %d, atual %d)".formatted(id, expected, actual)
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.matheusjfa.domain.pagination;
+
+public record CursorPagination<T>(
+        int perPage,
+        String nextCursor,
+        Iterable<T> items) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -12,7 +12,8 @@ public interface ValidationHandler {
     List<ErrorMessage> getErrors();
 
     default boolean hasErrors() {
-        return getErrors() != null && !getErrors().isEmpty();
+        final var errors = getErrors();
+        return errors != null && !errors.isEmpty();
     }
 }
 
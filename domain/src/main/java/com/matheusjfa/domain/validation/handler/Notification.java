@@ -6,17 +6,29 @@ import com.matheusjfa.domain.validation.Validation;
 import com.matheusjfa.domain.validation.ValidationHandler;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+/**
+ * {@link ValidationHandler} que acumula os erros em vez de lançá-los.
+ * <p>
+ * A lista de erros só é criada no primeiro {@code append}; até lá, {@link #getErrors()}
+ * devolve a lista vazia imutável compartilhada. Como a maioria dos comandos é válida, o
+ * caminho de sucesso dos casos de uso não aloca nada além da própria notificação.
+ * <p>
+ * {@link #getErrors()} sempre devolve uma visão somente leitura, com ou sem erros; os erros
+ * são acrescentados apenas pelos métodos {@code append} e {@code validate}.
+ */
 public class Notification implements ValidationHandler {
-    private final List<ErrorMessage> errors;
+    private static final int INITIAL_CAPACITY = 2;
 
-    private Notification(List<ErrorMessage> errors) {
-        this.errors = errors;
+    private List<ErrorMessage> errors;
+
+    private Notification() {
     }
 
     public static Notification create() {
-        return new Notification(new ArrayList<ErrorMessage>());
+        return new Notification();
     }
 
     public static Notification create(final Throwable throwable) {
@@ -24,18 +36,20 @@ public class Notification implements ValidationHandler {
     }
 
     public static Notification create(ErrorMessage error) {
-        return new Notification(new ArrayList<ErrorMessage>()).append(error);
+        return new Notification().append(error);
     }
 
     @Override
     public Notification append(ErrorMessage error) {
-        this.errors.add(error);
+        errors().add(error);
         return this;
     }
 
     @Override
     public Notification append(ValidationHandler handler) throws Exception {
-        this.errors.addAll(handler.getErrors());
+        if (handler.hasErrors()) {
+            errors().addAll(handler.getErrors());
+        }
         return this;
     }
 
@@ -44,9 +58,9 @@ public class Notification implements ValidationHandler {
         try {
             validation.validate();
         } catch (DomainException ex) {
-            this.errors.addAll(ex.getErrors());
+            errors().addAll(ex.getErrors());
         } catch (Exception ex) {
-            this.errors.add(new ErrorMessage(ex.getMessage()));
+            errors().add(new ErrorMessage(ex.getMessage()));
         }
 
         return null;
@@ -54,6 +68,18 @@ public class Notification implements ValidationHandler {
 
     @Override
     public List<ErrorMessage> getErrors() {
+        return errors == null ? List.of() : Collections.unmodifiableList(errors);
+    }
+
+    @Override
+    public boolean hasErrors() {
+        return errors != null && !errors.isEmpty();
+    }
+
+    private List<ErrorMessage> errors() {
+        if (errors == null) {
+            errors = new ArrayList<>(INITIAL_CAPACITY);
+        }
         return errors;
     }
 }
@@ -0,0 +1,91 @@
+package com.matheusjfa.domain.category;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CategoryIDTest {
+    @Test
+    @DisplayName("Dado um UUID, quando criar o ID a partir do UUID ou do seu texto, os IDs devem ser iguais")
+    public void givenAnUUID_whenCreatingFromUUIDOrFromString_thenIdsShouldBeEqual() {
+        // Arrange
+        final var uuid = UUID.randomUUID();
+
+        // Act
+        final var fromUuid = CategoryID.from(uuid);
+        final var fromString = CategoryID.from(uuid.toString());
+
+        // Assert
+        assertEquals(fromUuid, fromString);
+        assertEquals(fromUuid.hashCode(), fromString.hashCode());
+        assertEquals(uuid.toString(), fromUuid.getValue());
+        assertEquals(uuid.toString(), fromString.getValue());
+        assertSame(fromUuid.getValue(), fromUuid.getValue());
+    }
+
+    @Test
+    @DisplayName("Dado um texto que não é um UUID canônico, quando criar o ID, o valor deve ser mantido como está")
+    public void givenANonCanonicalValue_whenCreatingFromString_thenValueShouldBeKeptAsIs() {
+        // Arrange
+        final var uppercase = UUID.randomUUID().toString().toUpperCase();
+
+        // Act
+        final var invalid = CategoryID.from("invalid-id");
+        final var upper = CategoryID.from(uppercase);
+
+        // Assert
+        assertEquals("invalid-id", invalid.getValue());
+        assertEquals(uppercase, upper.getValue());
+        assertNotEquals(CategoryID.from(uppercase.toLowerCase()), upper);
+        assertEquals(CategoryID.from("invalid-id"), invalid);
+    }
+
+    @Test
+    @DisplayName("Dado dois IDs, quando compará-los, a ordem deve ser a mesma dos seus textos")
+    public void givenTwoIds_whenComparing_thenOrderShouldMatchTheirText() {
+        for (int i = 0; i < 1_000; i++) {
+            // Arrange
+            final var first = CategoryID.generate();
+            final var second = CategoryID.generate();
+
+            // Act
+            final var byId = Integer.signum(first.compareTo(second));
+            final var byText = Integer.signum(first.getValue().compareTo(second.getValue()));
+
+            // Assert
+            assertEquals(byText, byId);
+        }
+    }
+
+    @Test
+    @DisplayName("Dado a estratégia ordenada por tempo, quando gerar vários IDs na mesma thread, eles devem ser crescentes e da versão 7")
+    public void givenTimeOrderedStrategy_whenGeneratingManyIds_thenTheyShouldBeIncreasingVersion7Uuids() {
+        // Arrange
+        var previous = CategoryID.generate(CategoryIDStrategy.TIME_ORDERED);
+
+        for (int i = 0; i < 10_000; i++) {
+            // Act
+            final var next = CategoryID.generate(CategoryIDStrategy.TIME_ORDERED);
+            final var uuid = UUID.fromString(next.getValue());
+
+            // Assert
+            assertTrue(previous.compareTo(next) < 0);
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Dado um valor inválido para a estratégia de ID, quando ler a configuração, deve usar a estratégia aleatória")
+    public void givenAnInvalidStrategyValue_whenParsing_thenItShouldFallBackToRandom() {
+        // Act & Assert
+        assertEquals(CategoryIDStrategy.RANDOM, CategoryIDStrategy.parse("bogus"));
+        assertEquals(CategoryIDStrategy.RANDOM, CategoryIDStrategy.parse(" "));
+        assertEquals(CategoryIDStrategy.RANDOM, CategoryIDStrategy.parse(null));
+        assertEquals(CategoryIDStrategy.TIME_ORDERED, CategoryIDStrategy.parse(" time_ordered "));
+    }
+}
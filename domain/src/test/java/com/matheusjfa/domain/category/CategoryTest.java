@@ -1,6 +1,7 @@
 package com.matheusjfa.domain.category;
 
 import com.matheusjfa.domain.exceptions.DomainException;
+import com.matheusjfa.domain.validation.handler.Notification;
 import com.matheusjfa.domain.validation.handler.ThrowsValidationHandler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -250,8 +251,10 @@ public class CategoryTest {
         final var updatedAtAfterDeactivation = deactivatedCategory.getUpdatedAt();
 
         // Assert
-        assertFalse(category.isActive());
-        assertNotNull(category.getDeletedAt());
+        assertFalse(deactivatedCategory.isActive());
+        assertNotNull(deactivatedCategory.getDeletedAt());
+        assertTrue(category.isActive());
+        assertNull(category.getDeletedAt());
 
         assertTrue(updatedAt.isBefore(updatedAtAfterDeactivation) || updatedAt.equals(updatedAtAfterDeactivation));
     }
@@ -275,8 +278,10 @@ public class CategoryTest {
         final var updatedAtAfterActivation = activatedCategory.getUpdatedAt();
 
         // Assert
-        assertTrue(category.isActive());
-        assertNull(category.getDeletedAt());
+        assertTrue(activatedCategory.isActive());
+        assertNull(activatedCategory.getDeletedAt());
+        assertFalse(category.isActive());
+        assertNotNull(category.getDeletedAt());
 
         assertTrue(updatedAt.isBefore(updatedAtAfterActivation) || updatedAt.equals(updatedAtAfterActivation));
     }
@@ -400,4 +405,106 @@ public class CategoryTest {
         int expectedErrorCount = 1;
         assertEquals(expectedErrorCount, exception.getErrors().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Dado uma categoria, ao chamar o método 'update', deve retornar uma nova instância e preservar a original")
+    public void givenACategory_whenCallingMethodUpdate_thenReturnNewInstanceAndKeepOriginal() {
+        // Arrange
+        final var category = Category.create("A Category", "A Description", true);
+
+        // Act
+        final var updatedCategory = category.update("Updated Name", null, false);
+
+        // Assert
+        assertNotSame(category, updatedCategory);
+        assertEquals(category.getId(), updatedCategory.getId());
+        assertEquals(category.getCreatedAt(), updatedCategory.getCreatedAt());
+        assertEquals("Updated Name", updatedCategory.getName());
+        assertFalse(updatedCategory.isActive());
+        assertNotNull(updatedCategory.getDeletedAt());
+
+        assertEquals("A Category", category.getName());
+        assertEquals("A Description", category.getDescription());
+        assertTrue(category.isActive());
+        assertNull(category.getDeletedAt());
+    }
+
+    @Test
+    @DisplayName("Dado uma categoria sem eventos, ao chamar 'withoutEvents', deve reaproveitar a mesma instância")
+    public void givenACategoryWithoutEvents_whenCallingWithoutEvents_thenReuseTheSameInstance() {
+        // Arrange
+        final var category = Category.create("A Category", null, true);
+
+        // Act
+        final var withoutEvents = category.withoutEvents();
+        final var again = withoutEvents.withoutEvents();
+
+        // Assert
+        assertNotSame(category, withoutEvents);
+        assertEquals(1, category.getEvents().size());
+        assertTrue(withoutEvents.getEvents().isEmpty());
+        assertSame(withoutEvents, again);
+    }
+
+    @Test
+    @DisplayName("Dado nomes inválidos com espaços nas bordas, ao validar, deve ignorar os espaços e reutilizar a mesma mensagem de erro")
+    public void givenInvalidNamesWithSurroundingSpaces_whenValidating_thenIgnoreSpacesAndReuseTheSameErrorMessage() {
+        // Arrange
+        final var paddedShortName = Category.create("  ab  ", null, true);
+        final var shortName = Category.create("ab", null, true);
+        final var paddedValidName = Category.create("  abc  ", null, true);
+
+        final var first = Notification.create();
+        final var second = Notification.create();
+        final var third = Notification.create();
+
+        // Act
+        assertDoesNotThrow(() -> {
+            paddedShortName.validate(first);
+            shortName.validate(second);
+            paddedValidName.validate(third);
+        });
+
+        // Assert
+        assertSame(CategoryValidator.NAME_LENGTH, first.getErrors().get(0));
+        assertSame(first.getErrors().get(0), second.getErrors().get(0));
+        assertFalse(third.hasErrors());
+    }
+
+    @Test
+    @DisplayName("Dado uma categoria criada e alterada, ao retirar os eventos, deve devolvê-los em ordem uma única vez")
+    public void givenACreatedAndChangedCategory_whenPullingEvents_thenReturnThemInOrderOnlyOnce() {
+        // Arrange
+        final var category = Category.create("A Category", null, true);
+
+        // Act
+        final var changed = category.update("Another Category", "description", false).deactivate();
+        final var events = changed.pullEvents();
+
+        // Assert
+        assertEquals(3, events.size());
+        assertInstanceOf(CategoryCreated.class, events.get(0));
+        assertInstanceOf(CategoryUpdated.class, events.get(1));
+        assertInstanceOf(CategoryDeactivated.class, events.get(2));
+        assertEquals(category.getId(), ((CategoryEvent) events.get(2)).id());
+        assertTrue(changed.pullEvents().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado uma categoria sem eventos, ao alterá-la, deve registrar os eventos apenas na nova instância")
+    public void givenACategoryWithoutEvents_whenChangingIt_thenRegisterEventsOnlyOnTheNewInstance() {
+        // Arrange
+        final var stored = Category.create("A Category", null, true).withoutEvents();
+
+        // Act
+        final var updated = stored.update("Another Category", null, true);
+        final var activated = stored.activate();
+
+        // Assert
+        assertTrue(stored.getEvents().isEmpty());
+        assertTrue(activated.getEvents().isEmpty());
+        assertEquals(1, updated.getEvents().size());
+        assertInstanceOf(CategoryUpdated.class, updated.getEvents().get(0));
+        assertTrue(updated.withoutEvents().getEvents().isEmpty());
+    }
+}
@@ -0,0 +1,61 @@
+package com.matheusjfa.infrastructure.category;
+
+import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.domain.exceptions.DomainException;
+import com.matheusjfa.domain.validation.ErrorMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Codifica uma {@link CategorySortKey} em um cursor opaco e seguro para URLs.
+ * <p>
+ * O cursor carrega o campo de ordenação, o valor e o ID da última categoria retornada, e só
+ * é aceito por consultas ordenadas pelo mesmo campo.
+ */
+public final class CategoryCursor {
+
+    private static final char SEPARATOR = '\u0000';
+    private static final char PRESENT = '+';
+    private static final char ABSENT = '-';
+
+    private CategoryCursor() {
+    }
+
+    public static String encode(final CategorySortField field, final CategorySortKey key) {
+        final var value = key.value() == null ? String.valueOf(ABSENT) : PRESENT + key.value().toString();
+        final var raw = field.field() + SEPARATOR + value + SEPARATOR + key.id().getValue();
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CategorySortKey decode(final CategorySortField field, final String cursor) {
+        try {
+            final var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final var first = raw.indexOf(SEPARATOR);
+            final var last = raw.lastIndexOf(SEPARATOR);
+
+            if (first < 0 || first == last || !field.field().equals(raw.substring(0, first))) {
+                throw invalid(cursor);
+            }
+
+            final var value = raw.substring(first + 1, last);
+            final var id = CategoryID.from(raw.substring(last + 1));
+
+            return switch (value.isEmpty() ? ' ' : value.charAt(0)) {
+                case ABSENT -> new CategorySortKey(null, id);
+                case PRESENT -> new CategorySortKey(field.parse(value.substring(1)), id);
+                default -> throw invalid(cursor);
+            };
+        } catch (final IllegalArgumentException | DateTimeParseException ex) {
+            throw invalid(cursor);
+        }
+    }
+
+    private static DomainException invalid(final String cursor) {
+        final var message = "Cursor de paginação inválido: %s".formatted(cursor);
+        return new DomainException(message, List.of(new ErrorMessage(message)));
+    }
+}
@@ -0,0 +1,49 @@
+package com.matheusjfa.infrastructure.category;
+
+import com.matheusjfa.domain.category.Category;
+
+import java.util.Comparator;
+import java.util.Set;
+
+/**
+ * Consulta de categorias já interpretada pelo {@link CategoryQueryPlanner}.
+ *
+ * @param access     como os candidatos são obtidos.
+ * @param field      campo indexado da ordenação, ou {@code null} quando a ordenação é por um
+ *                   campo sem índice (descrição).
+ * @param ascending  direção da ordenação.
+ * @param comparator ordem completa da consulta, já na direção pedida e desempatada pelo ID.
+ * @param tokens     termos normalizados procurados no {@link CategoryTermIndex}.
+ * @param active     filtro por estado; {@code null} não filtra.
+ */
+public record CategoryQueryPlan(
+        Access access,
+        CategorySortField field,
+        boolean ascending,
+        Comparator<Category> comparator,
+        Set<String> tokens,
+        Boolean active
+) {
+
+    public enum Access {
+        /**
+         * Sem termos e ordenando por campo indexado: a página é lida em ordem do
+         * {@link CategorySortIndex}.
+         */
+        INDEX_SCAN,
+
+        /**
+         * Com termos: os candidatos vêm do {@link CategoryTermIndex} e são ordenados.
+         */
+        TERM_SEARCH,
+
+        /**
+         * Sem termos e ordenando por campo sem índice: todo o catálogo é ordenado.
+         */
+        FULL_SCAN
+    }
+
+    public boolean matches(final Category category) {
+        return this.active == null || category.isActive() == this.active;
+    }
+}
@@ -0,0 +1,115 @@
+package com.matheusjfa.infrastructure.category;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.exceptions.DomainException;
+import com.matheusjfa.domain.validation.ErrorMessage;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Interpreta os campos textuais de uma consulta de categorias (ordenação, direção e termos)
+ * em um {@link CategoryQueryPlan}.
+ * <p>
+ * A ordenação compilada fica em cache pela forma da consulta (ordenação, direção e filtro de
+ * estado), então as consultas repetidas da listagem administrativa não voltam a normalizar
+ * esses campos nem a montar comparadores. Os termos variam a cada busca e são separados por
+ * consulta, fora do cache. Campos de ordenação desconhecidos são rejeitados aqui, antes de
+ * qualquer leitura, e não entram no cache. O cache é limitado a {@value #MAX_PLANS} formas;
+ * ao enchê-lo, ele é esvaziado e volta a ser preenchido pelas consultas em uso.
+ */
+public class CategoryQueryPlanner {
+
+    static final int MAX_PLANS = 1_024;
+
+    private static final String DESCRIPTION = "description";
+    private static final Comparator<Category> BY_DESCRIPTION = Comparator.comparing(Category::getDescription, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final ConcurrentMap<Shape, Ordering> orderings;
+
+    public CategoryQueryPlanner() {
+        this.orderings = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @throws DomainException se {@code sort} não for um campo de ordenação conhecido.
+     */
+    public CategoryQueryPlan plan(final String terms, final String sort, final String direction, final Boolean active) {
+        final var ordering = ordering(new Shape(sort, direction, active));
+
+        // Termos só com pontuação, como "--", não geram tokens: a consulta é tratada como sem termos.
+        final Set<String> tokens = CategoryTermIndex.queryTokens(terms);
+
+        final CategoryQueryPlan.Access access;
+        if (!tokens.isEmpty()) {
+            access = CategoryQueryPlan.Access.TERM_SEARCH;
+        } else if (ordering.field() != null) {
+            access = CategoryQueryPlan.Access.INDEX_SCAN;
+        } else {
+            access = CategoryQueryPlan.Access.FULL_SCAN;
+        }
+
+        return new CategoryQueryPlan(access, ordering.field(), ordering.ascending(), ordering.comparator(), tokens, active);
+    }
+
+    int size() {
+        return this.orderings.size();
+    }
+
+    private Ordering ordering(final Shape shape) {
+        final var cached = this.orderings.get(shape);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final var ordering = compile(shape);
+
+        if (this.orderings.size() >= MAX_PLANS) {
+            this.orderings.clear();
+        }
+
+        this.orderings.put(shape, ordering);
+        return ordering;
+    }
+
+    private static Ordering compile(final Shape shape) {
+        final var field = CategorySortField.of(shape.sort());
+        final Comparator<Category> bySort;
+
+        if (field != null) {
+            bySort = (left, right) -> CategorySortField.VALUE_ORDER.compare(field.valueOf(left), field.valueOf(right));
+        } else if (DESCRIPTION.equals(normalize(shape.sort()))) {
+            bySort = BY_DESCRIPTION;
+        } else {
+            throw error("Campo de ordenação inválido: %s".formatted(shape.sort()));
+        }
+
+        final var ascending = !"desc".equals(normalize(shape.direction()));
+
+        // O ID desempata na mesma direção do campo, como no CategorySortIndex, para que as
+        // formas de responder a consulta devolvam a mesma ordem.
+        final var ordered = bySort.thenComparing(Category::getId);
+
+        return new Ordering(field, ascending, ascending ? ordered : ordered.reversed());
+    }
+
+    private static String normalize(final String value) {
+        return Objects.requireNonNullElse(value, "").trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static DomainException error(final String message) {
+        return new DomainException(message, List.of(new ErrorMessage(message)));
+    }
+
+    private record Shape(String sort, String direction, Boolean active) {
+    }
+
+    private record Ordering(CategorySortField field, boolean ascending, Comparator<Category> comparator) {
+    }
+}
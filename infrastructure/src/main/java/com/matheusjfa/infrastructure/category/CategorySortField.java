@@ -0,0 +1,62 @@
+package com.matheusjfa.infrastructure.category;
+
+import com.matheusjfa.domain.category.Category;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * Campos pelos quais as categorias podem ser ordenadas em uma paginação por cursor.
+ * <p>
+ * Cada campo sabe extrair seu valor de uma {@link Category} e convertê-lo de e para o texto
+ * usado dentro do cursor.
+ */
+public enum CategorySortField {
+    NAME("name", Category::getName, Function.identity()),
+    CREATED_AT("createdAt", Category::getCreatedAt, Instant::parse),
+    UPDATED_AT("updatedAt", Category::getUpdatedAt, Instant::parse);
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static final Comparator<Comparable> VALUE_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final String field;
+    private final Function<Category, ? extends Comparable<?>> extractor;
+    private final Function<String, ? extends Comparable<?>> parser;
+
+    CategorySortField(
+            final String field,
+            final Function<Category, ? extends Comparable<?>> extractor,
+            final Function<String, ? extends Comparable<?>> parser
+    ) {
+        this.field = field;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public static CategorySortField of(final String field) {
+        if (field == null || field.isBlank()) {
+            return NAME;
+        }
+
+        for (final var value : values()) {
+            if (value.field.equalsIgnoreCase(field.trim())) {
+                return value;
+            }
+        }
+
+        return null;
+    }
+
+    public String field() {
+        return field;
+    }
+
+    public Comparable<?> valueOf(final Category category) {
+        return extractor.apply(category);
+    }
+
+    public Comparable<?> parse(final String value) {
+        return parser.apply(value);
+    }
+}
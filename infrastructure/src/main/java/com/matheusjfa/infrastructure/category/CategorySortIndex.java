@@ -0,0 +1,195 @@
+package com.matheusjfa.infrastructure.category;
+
+import com.matheusjfa.domain.category.Category;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Índices ordenados por (campo, ID) para cada {@link CategorySortField}.
+ * <p>
+ * Permitem que a página seguinte de uma paginação por cursor seja obtida com um seek direto
+ * na skip list, em vez de ordenar o catálogo e descartar as linhas anteriores ao offset.
+ * Cada campo tem um índice das categorias ativas e outro das desativadas, para que o filtro
+ * por {@code isActive} seja uma varredura do índice certo e não um filtro sobre o catálogo
+ * inteiro; sem filtro, as duas partições são intercaladas em ordem durante a varredura, sem
+ * um terceiro índice com todas as chaves. Os totais de cada estado são mantidos a cada
+ * escrita. Escritas para um mesmo ID devem ser serializadas pelo chamador.
+ */
+public class CategorySortIndex {
+
+    private final Map<CategorySortField, NavigableSet<CategorySortKey>> active;
+    private final Map<CategorySortField, NavigableSet<CategorySortKey>> inactive;
+    private final AtomicInteger activeCount;
+    private final AtomicInteger inactiveCount;
+
+    public CategorySortIndex() {
+        this.active = indexes();
+        this.inactive = indexes();
+        this.activeCount = new AtomicInteger();
+        this.inactiveCount = new AtomicInteger();
+    }
+
+    public void add(final Category category) {
+        final var partition = partition(category.isActive());
+
+        for (final var field : CategorySortField.values()) {
+            partition.get(field).add(CategorySortKey.of(field, category));
+        }
+
+        counter(category.isActive()).incrementAndGet();
+    }
+
+    public void remove(final Category category) {
+        final var partition = partition(category.isActive());
+
+        for (final var field : CategorySortField.values()) {
+            partition.get(field).remove(CategorySortKey.of(field, category));
+        }
+
+        counter(category.isActive()).decrementAndGet();
+    }
+
+    /**
+     * Número de categorias indexadas no estado pedido; {@code null} conta todas.
+     */
+    public int count(final Boolean active) {
+        if (active == null) {
+            return this.activeCount.get() + this.inactiveCount.get();
+        }
+
+        return counter(active).get();
+    }
+
+    /**
+     * Retorna as chaves estritamente posteriores ao cursor na direção pedida, ou todas as
+     * chaves quando o cursor é nulo.
+     */
+    public Iterable<CategorySortKey> after(
+            final CategorySortField field,
+            final boolean ascending,
+            final CategorySortKey cursor
+    ) {
+        return after(field, ascending, cursor, null);
+    }
+
+    /**
+     * Como {@link #after(CategorySortField, boolean, CategorySortKey)}, restrito às categorias
+     * no estado {@code active}; {@code null} não filtra.
+     */
+    public Iterable<CategorySortKey> after(
+            final CategorySortField field,
+            final boolean ascending,
+            final CategorySortKey cursor,
+            final Boolean active
+    ) {
+        if (active != null) {
+            return view(partition(active).get(field), ascending, cursor);
+        }
+
+        final var activeKeys = view(this.active.get(field), ascending, cursor);
+        final var inactiveKeys = view(this.inactive.get(field), ascending, cursor);
+        final Comparator<CategorySortKey> order = ascending ? Comparator.naturalOrder() : Comparator.reverseOrder();
+
+        return () -> new MergingIterator(activeKeys.iterator(), inactiveKeys.iterator(), order);
+    }
+
+    private Map<CategorySortField, NavigableSet<CategorySortKey>> partition(final boolean active) {
+        return active ? this.active : this.inactive;
+    }
+
+    private AtomicInteger counter(final boolean active) {
+        return active ? this.activeCount : this.inactiveCount;
+    }
+
+    private static NavigableSet<CategorySortKey> view(
+            final NavigableSet<CategorySortKey> index,
+            final boolean ascending,
+            final CategorySortKey cursor
+    ) {
+        if (ascending) {
+            return cursor == null ? index : index.tailSet(cursor, false);
+        }
+
+        return cursor == null ? index.descendingSet() : index.headSet(cursor, false).descendingSet();
+    }
+
+    private static Map<CategorySortField, NavigableSet<CategorySortKey>> indexes() {
+        final var indexes = new EnumMap<CategorySortField, NavigableSet<CategorySortKey>>(CategorySortField.class);
+
+        for (final var field : CategorySortField.values()) {
+            indexes.put(field, new ConcurrentSkipListSet<>());
+        }
+
+        return indexes;
+    }
+
+    /**
+     * Intercala duas sequências já ordenadas. Uma categoria que muda de estado durante a
+     * varredura pode aparecer nas duas partições com a mesma chave; como as chaves são únicas
+     * e a saída é ordenada, a repetição é sempre consecutiva e é descartada.
+     */
+    private static final class MergingIterator implements Iterator<CategorySortKey> {
+        private final Iterator<CategorySortKey> left;
+        private final Iterator<CategorySortKey> right;
+        private final Comparator<CategorySortKey> order;
+
+        private CategorySortKey nextLeft;
+        private CategorySortKey nextRight;
+        private CategorySortKey last;
+
+        private MergingIterator(
+                final Iterator<CategorySortKey> left,
+                final Iterator<CategorySortKey> right,
+                final Comparator<CategorySortKey> order
+        ) {
+            this.left = left;
+            this.right = right;
+            this.order = order;
+            this.nextLeft = left.hasNext() ? left.next() : null;
+            this.nextRight = right.hasNext() ? right.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            skipRepeated();
+            return this.nextLeft != null || this.nextRight != null;
+        }
+
+        @Override
+        public CategorySortKey next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            final CategorySortKey key;
+
+            if (this.nextRight == null || (this.nextLeft != null && this.order.compare(this.nextLeft, this.nextRight) <= 0)) {
+                key = this.nextLeft;
+                this.nextLeft = this.left.hasNext() ? this.left.next() : null;
+            } else {
+                key = this.nextRight;
+                this.nextRight = this.right.hasNext() ? this.right.next() : null;
+            }
+
+            this.last = key;
+            return key;
+        }
+
+        private void skipRepeated() {
+            while (this.last != null && this.last.equals(this.nextLeft)) {
+                this.nextLeft = this.left.hasNext() ? this.left.next() : null;
+            }
+
+            while (this.last != null && this.last.equals(this.nextRight)) {
+                this.nextRight = this.right.hasNext() ? this.right.next() : null;
+            }
+        }
+    }
+}
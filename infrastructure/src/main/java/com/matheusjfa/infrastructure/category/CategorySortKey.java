@@ -0,0 +1,37 @@
+package com.matheusjfa.infrastructure.category;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryID;
+
+/**
+ * Chave de ordenação (valor do campo, ID). O ID desempata valores iguais, então toda chave
+ * é única e pode ser usada como ponto de retomada de uma paginação por cursor.
+ */
+public record CategorySortKey(
+        Comparable<?> value,
+        CategoryID id
+) implements Comparable<CategorySortKey> {
+
+    public static CategorySortKey of(final CategorySortField field, final Category category) {
+        return new CategorySortKey(field.valueOf(category), category.getId());
+    }
+
+    /**
+     * Mesma ordem de {@link CategorySortField#VALUE_ORDER} (nulos primeiro), comparando os
+     * valores diretamente: é a comparação que cada inserção e seek na skip list repete a cada
+     * nível.
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public int compareTo(final CategorySortKey other) {
+        final int byValue;
+
+        if (this.value == null || other.value == null) {
+            byValue = this.value == null ? (other.value == null ? 0 : -1) : 1;
+        } else {
+            byValue = ((Comparable) this.value).compareTo(other.value);
+        }
+
+        return byValue != 0 ? byValue : this.id.compareTo(other.id);
+    }
+}
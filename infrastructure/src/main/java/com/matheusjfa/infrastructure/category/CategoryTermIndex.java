@@ -0,0 +1,331 @@
+package com.matheusjfa.infrastructure.category;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryID;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Índice invertido dos termos de nome e descrição das categorias.
+ * <p>
+ * Cada token aponta para o conjunto de IDs que o contém, e os tokens ficam ordenados para que
+ * um termo da busca case por prefixo (útil para busca enquanto o usuário digita). Uma busca
+ * custa proporcionalmente ao tamanho das listas envolvidas, e não ao tamanho do catálogo.
+ * <p>
+ * Os tokens são normalizados com {@link SearchNormalizer} uma única vez na escrita e guardados
+ * junto ao ID, em um conjunto imutável (bem menor que um {@link HashSet} para os poucos tokens
+ * de uma categoria); na busca, só os termos da consulta precisam ser normalizados.
+ * <p>
+ * Quando o último ID sai de um token, o token é removido do índice, para que termos de
+ * categorias renomeadas ou removidas não continuem sendo percorridos nas buscas por prefixo.
+ * <p>
+ * Escritas para um mesmo ID devem ser serializadas pelo chamador; escritas em IDs diferentes
+ * podem ocorrer em paralelo. Cargas em lote usam um {@link Batch}, que liga os IDs às listas
+ * agrupados por token.
+ */
+public class CategoryTermIndex {
+
+    private final ConcurrentNavigableMap<String, Posting> postings;
+    private final ConcurrentMap<CategoryID, Set<String>> tokensById;
+
+    public CategoryTermIndex() {
+        this.postings = new ConcurrentSkipListMap<>();
+        this.tokensById = new ConcurrentHashMap<>();
+    }
+
+    public void index(final Category category) {
+        final var id = category.getId();
+        final var tokens = tokenize(category.getName(), category.getDescription());
+        final var previous = this.tokensById.put(id, tokens);
+
+        if (previous != null) {
+            for (final var token : previous) {
+                if (!tokens.contains(token)) {
+                    unlink(token, id);
+                }
+            }
+        }
+
+        for (final var token : tokens) {
+            if (previous == null || !previous.contains(token)) {
+                link(token, id);
+            }
+        }
+    }
+
+    /**
+     * Inicia a indexação de um lote de categorias; veja {@link Batch}.
+     */
+    public Batch batch() {
+        return new Batch();
+    }
+
+    public void remove(final CategoryID id) {
+        final var previous = this.tokensById.remove(id);
+
+        if (previous != null) {
+            previous.forEach(token -> unlink(token, id));
+        }
+    }
+
+    /**
+     * Retorna os IDs cujas categorias contêm todos os termos informados, cada um casando por
+     * prefixo com algum token do nome ou da descrição.
+     */
+    public Set<CategoryID> search(final String terms) {
+        return search(queryTokens(terms));
+    }
+
+    /**
+     * Como {@link #search(String)}, com os termos já normalizados por {@link #queryTokens(String)}.
+     */
+    public Set<CategoryID> search(final Set<String> queryTokens) {
+        if (queryTokens.isEmpty()) {
+            return Set.of();
+        }
+
+        final var candidates = new ArrayList<Set<CategoryID>>(queryTokens.size());
+        for (final var token : queryTokens) {
+            final var matches = matchesOf(token);
+            if (matches.isEmpty()) {
+                return Set.of();
+            }
+            candidates.add(matches);
+        }
+
+        candidates.sort(Comparator.comparingInt(Set::size));
+
+        final var result = candidates.get(0);
+        for (int i = 1; i < candidates.size() && !result.isEmpty(); i++) {
+            result.retainAll(candidates.get(i));
+        }
+
+        return result;
+    }
+
+    private Set<CategoryID> matchesOf(final String prefix) {
+        final var matches = new HashSet<CategoryID>();
+        this.postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values()
+                .forEach(posting -> matches.addAll(posting.ids()));
+        return matches;
+    }
+
+    private void link(final String token, final CategoryID id) {
+        while (true) {
+            final var posting = this.postings.computeIfAbsent(token, key -> new Posting());
+
+            synchronized (posting) {
+                // Uma lista esvaziada e removida por outra escrita não recebe mais IDs; uma nova é criada.
+                if (!posting.removed) {
+                    posting.add(id);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void linkAll(final String token, final List<CategoryID> ids) {
+        while (true) {
+            final var posting = this.postings.computeIfAbsent(token, key -> new Posting());
+
+            synchronized (posting) {
+                if (posting.removed) {
+                    continue;
+                }
+
+                for (final var id : ids) {
+                    // Vale o que a escrita mais recente do ID registrou: alterada ou removida depois
+                    // do registro no lote, a categoria pode não conter mais este token.
+                    final var current = this.tokensById.get(id);
+                    if (current != null && current.contains(token)) {
+                        posting.add(id);
+                    }
+                }
+
+                if (posting.ids().isEmpty()) {
+                    posting.removed = true;
+                    this.postings.remove(token, posting);
+                }
+                return;
+            }
+        }
+    }
+
+    private void unlink(final String token, final CategoryID id) {
+        final var posting = this.postings.get(token);
+        if (posting == null) {
+            return;
+        }
+
+        synchronized (posting) {
+            posting.remove(id);
+
+            if (posting.ids().isEmpty() && !posting.removed) {
+                posting.removed = true;
+                this.postings.remove(token, posting);
+            }
+        }
+    }
+
+    int tokenCount() {
+        return this.postings.size();
+    }
+
+    /**
+     * IDs que contêm um token. Leituras percorrem {@link #ids()} sem lock; inclusões e remoções
+     * sincronizam na própria lista, para que a última remoção e a retirada do token do índice
+     * aconteçam juntas.
+     * <p>
+     * A maior parte dos tokens (números, nomes próprios) pertence a uma única categoria, então a
+     * lista começa como um conjunto imutável de um ID e só passa a um conjunto concorrente ao
+     * receber o segundo; os leitores sempre veem um dos dois conjuntos inteiro.
+     */
+    private static final class Posting {
+        private volatile Set<CategoryID> ids = Set.of();
+        private boolean concurrent;
+        private boolean removed;
+
+        private Set<CategoryID> ids() {
+            return this.ids;
+        }
+
+        private void add(final CategoryID id) {
+            final var current = this.ids;
+
+            if (this.concurrent) {
+                current.add(id);
+            } else if (current.isEmpty()) {
+                this.ids = Set.of(id);
+            } else if (!current.contains(id)) {
+                final Set<CategoryID> grown = ConcurrentHashMap.newKeySet();
+                grown.addAll(current);
+                grown.add(id);
+                this.ids = grown;
+                this.concurrent = true;
+            }
+        }
+
+        private void remove(final CategoryID id) {
+            if (this.concurrent) {
+                this.ids.remove(id);
+            } else if (this.ids.contains(id)) {
+                this.ids = Set.of();
+            }
+        }
+    }
+
+    /**
+     * Indexação de um lote. {@link #add(Category)} registra os tokens de cada categoria, sob a
+     * mesma serialização por ID exigida por {@link #index(Category)}; {@link #link()} então
+     * liga os IDs às listas de cada token, localizando e travando cada lista uma vez por lote,
+     * e não uma vez por categoria. Tokens de termos comuns a quase todo o catálogo, como
+     * "categoria", deixam de custar uma busca na skip list por linha importada.
+     * <p>
+     * Até {@link #link()}, as categorias do lote ainda não aparecem nas buscas. Escritas
+     * concorrentes nesses IDs são permitidas: a ligação consulta os tokens atuais do ID, então
+     * uma alteração ou remoção feita no meio do lote prevalece.
+     */
+    public final class Batch {
+        private final Map<String, Pending> pending = new HashMap<>();
+
+        private Batch() {
+        }
+
+        public void add(final Category category) {
+            final var id = category.getId();
+            final var tokens = canonical(tokenList(category.getName(), category.getDescription()));
+            final var previous = tokensById.put(id, tokens);
+
+            if (previous != null) {
+                for (final var token : previous) {
+                    if (!tokens.contains(token)) {
+                        unlink(token, id);
+                    }
+                }
+            }
+
+            for (final var token : tokens) {
+                if (previous == null || !previous.contains(token)) {
+                    this.pending.get(token).ids().add(id);
+                }
+            }
+        }
+
+        public void link() {
+            // Em ordem, as inserções na skip list percorrem caminhos vizinhos e ficam bem mais baratas.
+            final var tokens = new ArrayList<>(this.pending.values());
+            tokens.sort(Comparator.comparing(Pending::token));
+
+            for (final var token : tokens) {
+                if (!token.ids().isEmpty()) {
+                    linkAll(token.token(), token.ids());
+                }
+            }
+
+            this.pending.clear();
+        }
+
+        // Termos repetidos no lote ("categoria", "da") passam a compartilhar uma única String,
+        // em vez de uma cópia guardada por categoria.
+        private Set<String> canonical(final List<String> tokens) {
+            tokens.replaceAll(token -> this.pending.computeIfAbsent(token, Pending::new).token());
+            return Set.copyOf(tokens);
+        }
+    }
+
+    private record Pending(String token, List<CategoryID> ids) {
+        private Pending(final String token) {
+            this(token, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Normaliza e separa os termos de uma busca nos tokens procurados no índice.
+     */
+    public static Set<String> queryTokens(final String terms) {
+        return tokenize(terms, null);
+    }
+
+    static Set<String> tokenize(final String name, final String description) {
+        return Set.copyOf(tokenList(name, description));
+    }
+
+    // Tokens na ordem do texto, com repetições.
+    private static List<String> tokenList(final String name, final String description) {
+        final var tokens = new ArrayList<String>();
+        collect(name, tokens);
+        collect(description, tokens);
+        return tokens;
+    }
+
+    private static void collect(final String text, final List<String> tokens) {
+        if (text == null) {
+            return;
+        }
+
+        final var normalized = SearchNormalizer.normalize(text);
+        int start = -1;
+
+        for (int i = 0; i <= normalized.length(); i++) {
+            final var isTokenChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+
+            if (isTokenChar && start < 0) {
+                start = i;
+            } else if (!isTokenChar && start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package com.matheusjfa.infrastructure.category;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryCursorQuery;
+import com.matheusjfa.domain.category.CategoryGateway;
+import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.domain.category.CategorySearchQuery;
+import com.matheusjfa.domain.exceptions.ConcurrencyConflictException;
+import com.matheusjfa.domain.exceptions.DomainException;
+import com.matheusjfa.domain.pagination.CursorPagination;
+import com.matheusjfa.domain.pagination.Pagination;
+import com.matheusjfa.domain.validation.ErrorMessage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * {@link CategoryGateway} em memória, seguro para acesso concorrente.
+ * <p>
+ * As categorias ficam em um {@link ConcurrentHashMap}: leituras não bloqueiam e escritas
+ * disputam apenas o bin da chave alterada, então create/update/delete em IDs diferentes
+ * escalam com o número de núcleos. O mapa guarda as categorias sem eventos
+ * ({@link Category#withoutEvents()}) e as entrega diretamente aos leitores: como
+ * {@link Category} é imutável, nenhum chamador altera o estado armazenado sem passar pelo
+ * gateway.
+ * <p>
+ * Buscas por termos são respondidas pelo {@link CategoryTermIndex}, atualizado dentro do
+ * mesmo {@code compute} que altera a categoria, então o índice de um ID nunca fica fora de
+ * ordem em relação às escritas desse ID. Da mesma forma, o {@link CategorySortIndex} mantém
+ * as chaves (campo, ID) usadas pela paginação por cursor.
+ */
+public class InMemoryCategoryGateway implements CategoryGateway {
+
+    private final ConcurrentMap<CategoryID, Category> categories;
+    private final CategoryTermIndex termIndex;
+    private final CategorySortIndex sortIndex;
+    private final CategoryQueryPlanner planner;
+
+    public InMemoryCategoryGateway() {
+        this.categories = new ConcurrentHashMap<>();
+        this.termIndex = new CategoryTermIndex();
+        this.sortIndex = new CategorySortIndex();
+        this.planner = new CategoryQueryPlanner();
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var id = category.getId();
+        final var stored = category.withoutEvents();
+
+        this.categories.compute(id, (key, current) -> {
+            if (current != null) {
+                throw alreadyExists(id);
+            }
+
+            return add(stored);
+        });
+
+        return stored;
+    }
+
+    /**
+     * Insere as categorias uma a uma; se algum ID já existir, as inserções feitas até ali são
+     * desfeitas e a exceção é propagada.
+     * <p>
+     * A inserção <em>não</em> é atômica para leitores concorrentes, que podem ver parte do lote
+     * antes de ele terminar ou de ser desfeito. O desfazer remove cada categoria apenas se ela
+     * ainda estiver na versão inserida: uma categoria já alterada por outra escrita é mantida.
+     * <p>
+     * Os termos do lote entram no {@link CategoryTermIndex} de uma vez ao final
+     * ({@link CategoryTermIndex.Batch}), então buscas por termos só encontram as categorias do
+     * lote depois que ele termina; leituras por ID e a paginação as veem assim que inseridas.
+     */
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var created = new ArrayList<Category>(categories.size());
+        final var terms = this.termIndex.batch();
+
+        try {
+            for (final var category : categories) {
+                created.add(insert(category, terms));
+            }
+        } catch (final RuntimeException ex) {
+            for (final var category : created) {
+                try {
+                    deleteById(category.getId(), category.getVersion());
+                } catch (final ConcurrencyConflictException conflict) {
+                    ex.addSuppressed(conflict);
+                }
+            }
+            throw ex;
+        } finally {
+            terms.link();
+        }
+
+        return created;
+    }
+
+    // Uma inserção de createAll; separada para que os testes possam intercalar outras escritas no lote.
+    Category insert(final Category category, final CategoryTermIndex.Batch terms) {
+        final var id = category.getId();
+        final var stored = category.withoutEvents();
+
+        this.categories.compute(id, (key, current) -> {
+            if (current != null) {
+                throw alreadyExists(id);
+            }
+
+            terms.add(stored);
+            this.sortIndex.add(stored);
+            return stored;
+        });
+
+        return stored;
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var id = category.getId();
+        final var stored = category.withVersion(category.getVersion() + 1);
+
+        final var replaced = this.categories.computeIfPresent(id, (key, current) -> {
+            if (current.getVersion() != category.getVersion()) {
+                throw ConcurrencyConflictException.with(id, category.getVersion(), current.getVersion());
+            }
+
+            return replace(current, stored);
+        });
+
+        if (replaced == null) {
+            throw notFound(id);
+        }
+
+        return stored;
+    }
+
+    /**
+     * Valida a inserção sem alterar o estado e devolve o snapshot que {@link #create(Category)}
+     * gravaria. O resultado só é definitivo se o chamador serializar as escritas desses IDs até
+     * aplicá-lo com {@link #restore(Category)}.
+     */
+    public Category prepareCreate(final Category category) {
+        if (this.categories.containsKey(category.getId())) {
+            throw alreadyExists(category.getId());
+        }
+
+        return category.withoutEvents();
+    }
+
+    /**
+     * Como {@link #prepareCreate(Category)}, para um lote: rejeita IDs já existentes e IDs
+     * repetidos dentro do próprio lote, como {@link #createAll(List)} faria.
+     */
+    public List<Category> prepareCreateAll(final List<Category> categories) {
+        final var ids = new HashSet<CategoryID>();
+        final var prepared = new ArrayList<Category>(categories.size());
+
+        for (final var category : categories) {
+            if (!ids.add(category.getId())) {
+                throw alreadyExists(category.getId());
+            }
+            prepared.add(prepareCreate(category));
+        }
+
+        return prepared;
+    }
+
+    /**
+     * Valida a atualização sem alterar o estado e devolve a categoria, já com a próxima versão,
+     * que {@link #update(Category)} gravaria. Vale a mesma ressalva de
+     * {@link #prepareCreate(Category)}.
+     */
+    public Category prepareUpdate(final Category category) {
+        final var id = category.getId();
+        final var current = this.categories.get(id);
+
+        if (current == null) {
+            throw notFound(id);
+        }
+
+        if (current.getVersion() != category.getVersion()) {
+            throw ConcurrencyConflictException.with(id, category.getVersion(), current.getVersion());
+        }
+
+        return category.withVersion(category.getVersion() + 1);
+    }
+
+    /**
+     * Valida a remoção com versão esperada sem alterar o estado, como
+     * {@link #deleteById(CategoryID, long)} faria.
+     *
+     * @return se a categoria existe e, portanto, seria removida.
+     */
+    public boolean prepareDelete(final CategoryID id, final long expectedVersion) {
+        final var current = this.categories.get(id);
+
+        if (current != null && current.getVersion() != expectedVersion) {
+            throw ConcurrencyConflictException.with(id, expectedVersion, current.getVersion());
+        }
+
+        return current != null;
+    }
+
+    /**
+     * Grava a categoria exatamente como informada, versão inclusive, criando-a ou substituindo
+     * a atual sem verificar conflitos. Usado para reconstruir o estado a partir de uma fonte já
+     * ordenada, como um log ou snapshot.
+     */
+    public void restore(final Category category) {
+        final var stored = category.withoutEvents();
+
+        this.categories.compute(category.getId(), (key, current) -> current == null ? add(stored) : replace(current, stored));
+    }
+
+    @Override
+    public boolean deleteById(final CategoryID id) {
+        final var removed = new boolean[1];
+
+        this.categories.computeIfPresent(id, (key, current) -> {
+            this.termIndex.remove(key);
+            this.sortIndex.remove(current);
+            removed[0] = true;
+            return null;
+        });
+
+        return removed[0];
+    }
+
+    @Override
+    public boolean deleteById(final CategoryID id, final long expectedVersion) {
+        final var removed = new boolean[1];
+
+        this.categories.computeIfPresent(id, (key, current) -> {
+            if (current.getVersion() != expectedVersion) {
+                throw ConcurrencyConflictException.with(id, expectedVersion, current.getVersion());
+            }
+
+            this.termIndex.remove(key);
+            this.sortIndex.remove(current);
+            removed[0] = true;
+            return null;
+        });
+
+        return removed[0];
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return Optional.ofNullable(this.categories.get(id));
+    }
+
+    /**
+     * A consulta é interpretada pelo {@link CategoryQueryPlanner}. Sem termos de busca e com
+     * ordenação por um campo indexado, a página é lida em ordem direto do
+     * {@link CategorySortIndex} e o total vem dos contadores do índice, sem ordenar o catálogo.
+     * Com termos, ou ordenando por descrição, os candidatos são filtrados e ordenados.
+     */
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        final var plan = this.planner.plan(query.terms(), query.sort(), query.direction(), query.active());
+        final var perPage = Math.max(query.perPage(), 0);
+        final var offset = (long) Math.max(query.page(), 0) * perPage;
+
+        if (plan.access() == CategoryQueryPlan.Access.INDEX_SCAN) {
+            final var items = seek(plan, null, offset, perPage);
+            return new Pagination<>(query.page(), query.perPage(), this.sortIndex.count(plan.active()), items);
+        }
+
+        final var matches = candidates(plan)
+                .sorted(plan.comparator())
+                .toList();
+
+        final var items = matches.stream()
+                .skip(offset)
+                .limit(perPage)
+                .toList();
+
+        return new Pagination<>(query.page(), query.perPage(), matches.size(), items);
+    }
+
+    @Override
+    public CursorPagination<Category> findAll(final CategoryCursorQuery query) {
+        final var plan = this.planner.plan(query.terms(), query.sort(), query.direction(), query.active());
+        final var field = plan.field();
+        if (field == null) {
+            throw error("Campo de ordenação inválido para paginação por cursor: %s".formatted(query.sort()));
+        }
+
+        final var cursor = query.cursor() == null ? null : CategoryCursor.decode(field, query.cursor());
+        final var perPage = Math.max(query.perPage(), 0);
+
+        final var page = plan.access() == CategoryQueryPlan.Access.INDEX_SCAN
+                ? seek(plan, cursor, 0, perPage + 1)
+                : seekMatches(plan, cursor, perPage + 1);
+
+        final var hasNext = page.size() > perPage;
+        final var items = hasNext ? page.subList(0, perPage) : page;
+        final var nextCursor = hasNext && perPage > 0
+                ? CategoryCursor.encode(field, CategorySortKey.of(field, items.get(perPage - 1)))
+                : null;
+
+        return new CursorPagination<>(query.perPage(), nextCursor, items);
+    }
+
+    private List<Category> seek(
+            final CategoryQueryPlan plan,
+            final CategorySortKey cursor,
+            final long skip,
+            final int limit
+    ) {
+        final var field = plan.field();
+        final var page = new ArrayList<Category>(limit);
+        var skipped = 0L;
+
+        for (final var key : this.sortIndex.after(field, plan.ascending(), cursor, plan.active())) {
+            if (page.size() == limit) {
+                break;
+            }
+
+            final var category = this.categories.get(key.id());
+
+            // A chave pode ser de uma versão anterior da categoria; a versão atual tem sua própria chave.
+            if (category == null || !key.equals(CategorySortKey.of(field, category))) {
+                continue;
+            }
+
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                page.add(category);
+            }
+        }
+
+        return page;
+    }
+
+    private List<Category> seekMatches(
+            final CategoryQueryPlan plan,
+            final CategorySortKey cursor,
+            final int limit
+    ) {
+        final var field = plan.field();
+        final Comparator<CategorySortKey> order = plan.ascending() ? Comparator.naturalOrder() : Comparator.reverseOrder();
+
+        return candidates(plan)
+                .map(category -> Map.entry(CategorySortKey.of(field, category), category))
+                .filter(entry -> cursor == null || order.compare(entry.getKey(), cursor) > 0)
+                .sorted(Map.Entry.comparingByKey(order))
+                .limit(limit)
+                .map(Map.Entry::getValue)
+                .toList();
+    }
+
+    private Stream<Category> candidates(final CategoryQueryPlan plan) {
+        final var candidates = plan.access() == CategoryQueryPlan.Access.TERM_SEARCH
+                ? this.termIndex.search(plan.tokens()).stream().map(this.categories::get).filter(Objects::nonNull)
+                : this.categories.values().stream();
+
+        return plan.active() == null ? candidates : candidates.filter(plan::matches);
+    }
+
+    private Category add(final Category stored) {
+        this.termIndex.index(stored);
+        this.sortIndex.add(stored);
+        return stored;
+    }
+
+    private Category replace(final Category current, final Category stored) {
+        this.termIndex.index(stored);
+        this.sortIndex.remove(current);
+        this.sortIndex.add(stored);
+        return stored;
+    }
+
+    private static DomainException alreadyExists(final CategoryID id) {
+        return error("Já existe uma categoria com o ID %s".formatted(id.getValue()));
+    }
+
+    private static DomainException notFound(final CategoryID id) {
+        return error("Não foi encontrado nenhuma categoria com o ID %s".formatted(id.getValue()));
+    }
+
+    private static DomainException error(final String message) {
+        return new DomainException(message, List.of(new ErrorMessage(message)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.matheusjfa.infrastructure.category;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normaliza textos para comparação em buscas: decomposição Unicode (NFD), remoção dos
+ * diacríticos e conversão para minúsculas, de forma que "Ação" e "acao" sejam equivalentes.
+ * <p>
+ * Textos só com caracteres Latin-1 (o caso de nomes em português) são convertidos caractere a
+ * caractere por uma tabela pré-calculada com essa mesma regra, sem passar pelo
+ * {@link Normalizer} e pela expressão regular.
+ */
+public final class SearchNormalizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final char[] LATIN_1 = latin1Table();
+
+    private SearchNormalizer() {
+    }
+
+    public static String normalize(final String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        final var folded = foldLatin1(text);
+        if (folded != null) {
+            return folded;
+        }
+
+        return slowNormalize(text);
+    }
+
+    private static String foldLatin1(final String text) {
+        char[] chars = null;
+
+        for (int i = 0; i < text.length(); i++) {
+            final var c = text.charAt(i);
+
+            if (c >= LATIN_1.length || LATIN_1[c] == '\0' && c != '\0') {
+                return null;
+            }
+
+            final var folded = LATIN_1[c];
+            if (folded != c) {
+                if (chars == null) {
+                    chars = text.toCharArray();
+                }
+                chars[i] = folded;
+            }
+        }
+
+        return chars == null ? text : new String(chars);
+    }
+
+    private static String slowNormalize(final String text) {
+        final var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    // '\0' marca um caractere que não vira exatamente um caractere (tratado pelo caminho geral).
+    private static char[] latin1Table() {
+        final var table = new char[0x100];
+
+        for (char c = 0; c < table.length; c++) {
+            final var normalized = slowNormalize(String.valueOf(c));
+            table[c] = normalized.length() == 1 ? normalized.charAt(0) : '\0';
+        }
+
+        return table;
+    }
+}
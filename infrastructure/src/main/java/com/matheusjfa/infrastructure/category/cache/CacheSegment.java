@@ -0,0 +1,193 @@
+package com.matheusjfa.infrastructure.category.cache;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Segmento de cache limitado por peso, com remoção aproximadamente LRU, compartilhado pelos
+ * decoradores de cache de categorias.
+ * <p>
+ * As entradas ficam em um {@link ConcurrentHashMap}, então leituras não usam lock: um acerto
+ * apenas marca a entrada como referenciada. O lock é usado só para inserir e para remover por
+ * excesso de peso, que segue o algoritmo CLOCK (segunda chance): as entradas são percorridas
+ * em ordem de inserção e as referenciadas desde a última passagem são poupadas uma vez.
+ * <p>
+ * Para que um valor lido antes de uma invalidação não volte ao cache depois dela, a carga
+ * reserva a chave com {@link #reserve(Object)} antes de consultar a origem; uma invalidação
+ * descarta a reserva, e {@link #complete} só guarda o valor se a reserva ainda existir. Assim,
+ * uma invalidação afeta apenas a própria chave.
+ */
+final class CacheSegment<K, V> {
+
+    static final long NEVER = Long.MAX_VALUE;
+
+    private final ConcurrentHashMap<K, Node<K, V>> entries;
+    private final ArrayDeque<Node<K, V>> clock;
+    private final ReentrantLock lock;
+    private final AtomicLong weight;
+    private final long capacity;
+    private final LongAdder evictions;
+
+    CacheSegment(final long capacity, final LongAdder evictions) {
+        this.entries = new ConcurrentHashMap<>();
+        this.clock = new ArrayDeque<>();
+        this.lock = new ReentrantLock();
+        this.weight = new AtomicLong();
+        this.capacity = capacity;
+        this.evictions = evictions;
+    }
+
+    /**
+     * Retorna o valor em cache, ou {@code null} se não houver (ou se tiver expirado em
+     * {@code now}).
+     */
+    V get(final K key, final long now) {
+        final var node = this.entries.get(key);
+
+        if (node == null || node.value == null) {
+            return null;
+        }
+
+        if (node.expiresAt != NEVER && node.expiresAt - now <= 0) {
+            remove(key, node);
+            return null;
+        }
+
+        node.referenced = true;
+        return node.value;
+    }
+
+    /**
+     * Reserva {@code key} para uma carga e retorna a reserva, ou {@code null} se a chave já
+     * estiver em cache ou sendo carregada por outra thread; nesse caso o valor carregado não
+     * deve ser guardado.
+     */
+    Object reserve(final K key) {
+        final var reservation = new Node<K, V>(key, null, 0, NEVER);
+        return this.entries.putIfAbsent(key, reservation) == null ? reservation : null;
+    }
+
+    /**
+     * Substitui a reserva pelo valor carregado, se ela não tiver sido invalidada, e remove as
+     * entradas menos usadas enquanto o peso total passar da capacidade.
+     */
+    void complete(final K key, final Object reservation, final V value, final long weight, final long expiresAt) {
+        if (weight > this.capacity) {
+            // Uma entrada maior que o segmento inteiro expulsaria todas as outras.
+            this.entries.remove(key, reservation);
+            return;
+        }
+
+        final var node = new Node<>(key, value, weight, expiresAt);
+
+        this.lock.lock();
+        try {
+            if (!this.entries.replace(key, castNode(reservation), node)) {
+                return;
+            }
+
+            this.clock.add(node);
+            this.weight.addAndGet(weight);
+            evict();
+            compact();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Desiste de uma reserva, por exemplo quando a origem não tem o valor ou falhou.
+     */
+    void release(final K key, final Object reservation) {
+        this.entries.remove(key, castNode(reservation));
+    }
+
+    void invalidate(final K key) {
+        final var removed = this.entries.remove(key);
+        if (removed != null) {
+            this.weight.addAndGet(-removed.weight);
+        }
+    }
+
+    /**
+     * Remove a entrada de {@code key} apenas se ela ainda guardar {@code value}.
+     */
+    void invalidate(final K key, final V value) {
+        final var node = this.entries.get(key);
+        if (node != null && node.value == value) {
+            remove(key, node);
+        }
+    }
+
+    void clear() {
+        this.lock.lock();
+        try {
+            this.entries.keySet().forEach(this::invalidate);
+            this.clock.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void remove(final K key, final Node<K, V> node) {
+        if (this.entries.remove(key, node)) {
+            this.weight.addAndGet(-node.weight);
+        }
+    }
+
+    private void evict() {
+        // Cada entrada é poupada no máximo uma vez, então duas voltas bastam.
+        var budget = 2 * this.clock.size();
+
+        while (this.weight.get() > this.capacity && !this.clock.isEmpty()) {
+            final var node = this.clock.poll();
+
+            if (this.entries.get(node.key) != node) {
+                continue;
+            }
+
+            if (node.referenced && budget-- > 0) {
+                node.referenced = false;
+                this.clock.add(node);
+                continue;
+            }
+
+            if (this.entries.remove(node.key, node)) {
+                this.weight.addAndGet(-node.weight);
+                this.evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Descarta da fila as entradas já invalidadas, quando elas passam a ser maioria.
+     */
+    private void compact() {
+        if (this.clock.size() > 2 * this.entries.size() + 16) {
+            this.clock.removeIf(node -> this.entries.get(node.key) != node);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Node<K, V> castNode(final Object reservation) {
+        return (Node<K, V>) reservation;
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final long weight;
+        private final long expiresAt;
+        private volatile boolean referenced;
+
+        private Node(final K key, final V value, final long weight, final long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
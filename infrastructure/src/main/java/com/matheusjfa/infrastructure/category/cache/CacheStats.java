@@ -0,0 +1,16 @@
+package com.matheusjfa.infrastructure.category.cache;
+
+public record CacheStats(
+        long hits,
+        long misses,
+        long evictions
+) {
+    public long requests() {
+        return hits + misses;
+    }
+
+    public double hitRatio() {
+        final var requests = requests();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
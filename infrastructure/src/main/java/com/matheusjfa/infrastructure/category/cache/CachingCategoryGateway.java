@@ -0,0 +1,186 @@
+package com.matheusjfa.infrastructure.category.cache;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryCursorQuery;
+import com.matheusjfa.domain.category.CategoryGateway;
+import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.domain.category.CategorySearchQuery;
+import com.matheusjfa.domain.pagination.CursorPagination;
+import com.matheusjfa.domain.pagination.Pagination;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Decorador de {@link CategoryGateway} que mantém em cache os resultados de {@code findById}.
+ * <p>
+ * O cache é dividido em {@link CacheSegment}s independentes: acertos não usam lock, então
+ * leituras concorrentes de um mesmo ID popular não se serializam, e apenas inserções e
+ * remoções por excesso disputam o lock do segmento. Cada entrada expira após o TTL
+ * configurado, e {@code update}/{@code deleteById} invalidam a entrada do ID alterado.
+ * As entradas são categorias sem eventos ({@link Category#withoutEvents()}) e, como
+ * {@link Category} é imutável, são entregues sem cópia a todos os leitores.
+ * <p>
+ * Para não repovoar o cache com um valor antigo lido antes de uma invalidação concorrente,
+ * cada carga reserva o seu ID antes de consultar o gateway, e a invalidação desse ID descarta
+ * a reserva; invalidações de outros IDs não afetam a carga.
+ */
+public class CachingCategoryGateway implements CategoryGateway {
+
+    private static final int SEGMENTS = 16;
+    private static final Duration MAX_TTL = Duration.ofNanos(Long.MAX_VALUE / 2);
+
+    private final CategoryGateway delegate;
+    private final CacheSegment<CategoryID, Category>[] segments;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    public CachingCategoryGateway(final CategoryGateway delegate, final int maximumSize, final Duration ttl) {
+        this(delegate, maximumSize, ttl, System::nanoTime);
+    }
+
+    CachingCategoryGateway(
+            final CategoryGateway delegate,
+            final int maximumSize,
+            final Duration ttl,
+            final LongSupplier ticker
+    ) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("O tamanho máximo do cache deve ser positivo");
+        }
+
+        // Acima de MAX_TTL, o prazo somado ao relógio em nanossegundos estouraria um long.
+        if (ttl.isZero() || ttl.isNegative() || ttl.compareTo(MAX_TTL) > 0) {
+            throw new IllegalArgumentException("O tempo de expiração do cache deve ser positivo e de no máximo %s".formatted(MAX_TTL));
+        }
+
+        this.delegate = Objects.requireNonNull(delegate);
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+
+        final var segmentCount = Math.min(SEGMENTS, maximumSize);
+        final var capacity = (maximumSize + segmentCount - 1) / segmentCount;
+        this.segments = newSegments(segmentCount);
+
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new CacheSegment<>(capacity, this.evictions);
+        }
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return this.delegate.create(category);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return this.delegate.createAll(categories);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        try {
+            return this.delegate.update(category);
+        } finally {
+            segmentFor(category.getId()).invalidate(category.getId());
+        }
+    }
+
+    @Override
+    public boolean deleteById(final CategoryID id) {
+        try {
+            return this.delegate.deleteById(id);
+        } finally {
+            segmentFor(id).invalidate(id);
+        }
+    }
+
+    @Override
+    public boolean deleteById(final CategoryID id, final long expectedVersion) {
+        try {
+            return this.delegate.deleteById(id, expectedVersion);
+        } finally {
+            segmentFor(id).invalidate(id);
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        final var segment = segmentFor(id);
+        final var now = this.ticker.getAsLong();
+        final var cached = segment.get(id, now);
+
+        if (cached != null) {
+            this.hits.increment();
+            return Optional.of(cached);
+        }
+
+        this.misses.increment();
+
+        final var reservation = segment.reserve(id);
+        Optional<Category> loaded = Optional.empty();
+
+        try {
+            loaded = this.delegate.findById(id).map(Category::withoutEvents);
+        } finally {
+            if (reservation != null) {
+                if (loaded.isPresent()) {
+                    segment.complete(id, reservation, loaded.get(), 1, now + this.ttlNanos);
+                } else {
+                    segment.release(id, reservation);
+                }
+            }
+        }
+
+        return loaded;
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public CursorPagination<Category> findAll(final CategoryCursorQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(this.hits.sum(), this.misses.sum(), this.evictions.sum());
+    }
+
+    /**
+     * Remove a entrada de {@code id}; usado quando a categoria é alterada por outro caminho que
+     * não este decorador, por exemplo ao consumir um {@link com.matheusjfa.domain.category.CategoryEvent}.
+     */
+    public void invalidate(final CategoryID id) {
+        segmentFor(id).invalidate(id);
+    }
+
+    public void invalidateAll() {
+        for (final var segment : this.segments) {
+            segment.clear();
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static CacheSegment<CategoryID, Category>[] newSegments(final int count) {
+        return new CacheSegment[count];
+    }
+
+    private CacheSegment<CategoryID, Category> segmentFor(final CategoryID id) {
+        final var hash = id.hashCode();
+        return this.segments[Math.floorMod(hash ^ (hash >>> 16), this.segments.length)];
+    }
+}
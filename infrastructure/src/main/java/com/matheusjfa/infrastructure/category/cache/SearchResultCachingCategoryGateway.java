@@ -0,0 +1,212 @@
+package com.matheusjfa.infrastructure.category.cache;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryCursorQuery;
+import com.matheusjfa.domain.category.CategoryGateway;
+import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.domain.category.CategorySearchQuery;
+import com.matheusjfa.domain.pagination.CursorPagination;
+import com.matheusjfa.domain.pagination.Pagination;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorador de {@link CategoryGateway} que mantém em cache as páginas de
+ * {@link #findAll(CategorySearchQuery)}, usando a própria consulta como chave.
+ * <p>
+ * Em vez de rastrear de quais categorias cada página depende, o cache tem um único contador de
+ * geração, incrementado a cada escrita (create, update e delete) feita por este decorador.
+ * Cada página guarda a geração lida antes de ser carregada e só é servida enquanto o contador
+ * não mudar; assim, uma escrita invalida todas as páginas com um único incremento, e uma
+ * página carregada durante uma escrita concorrente nunca é servida depois dela. Com muito mais
+ * leituras que escritas, quase todas as consultas repetidas são respondidas pelo cache.
+ * <p>
+ * O tamanho é limitado por uma estimativa da memória ocupada pelas páginas, dividida entre
+ * {@link CacheSegment}s independentes, em que acertos não usam lock. Uma página de geração
+ * antiga é descartada ao ser lida. As páginas guardam as categorias sem eventos
+ * ({@link Category#withoutEvents()}), entregues sem cópia a todos os leitores.
+ * <p>
+ * Escritas que não passam por este decorador não invalidam o cache; quem as fizer deve chamar
+ * {@link #invalidateAll()}.
+ */
+public class SearchResultCachingCategoryGateway implements CategoryGateway {
+
+    private static final int SEGMENTS = 16;
+
+    // Estimativas, em bytes, para a JVM de 64 bits com ponteiros comprimidos.
+    private static final long ENTRY_OVERHEAD = 160;
+    private static final long CATEGORY_OVERHEAD = 200;
+    private static final long STRING_OVERHEAD = 40;
+
+    private final CategoryGateway delegate;
+    private final CacheSegment<CategorySearchQuery, Entry>[] segments;
+    private final AtomicLong generation;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+
+    /**
+     * @param maximumBytes memória estimada máxima ocupada pelas páginas em cache.
+     */
+    public SearchResultCachingCategoryGateway(final CategoryGateway delegate, final long maximumBytes) {
+        if (maximumBytes <= 0) {
+            throw new IllegalArgumentException("O tamanho máximo do cache deve ser positivo");
+        }
+
+        this.delegate = Objects.requireNonNull(delegate);
+        this.generation = new AtomicLong();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+
+        final var segmentCapacity = Math.max(1, maximumBytes / SEGMENTS);
+        this.segments = newSegments(SEGMENTS);
+
+        for (int i = 0; i < SEGMENTS; i++) {
+            this.segments[i] = new CacheSegment<>(segmentCapacity, this.evictions);
+        }
+    }
+
+    @Override
+    public Category create(final Category category) {
+        try {
+            return this.delegate.create(category);
+        } finally {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        try {
+            return this.delegate.createAll(categories);
+        } finally {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public Category update(final Category category) {
+        try {
+            return this.delegate.update(category);
+        } finally {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean deleteById(final CategoryID id) {
+        try {
+            return this.delegate.deleteById(id);
+        } finally {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean deleteById(final CategoryID id, final long expectedVersion) {
+        try {
+            return this.delegate.deleteById(id, expectedVersion);
+        } finally {
+            this.generation.incrementAndGet();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        final var segment = segmentFor(query);
+        final var current = this.generation.get();
+        // As páginas não expiram por tempo, só por geração; o instante passado não importa.
+        final var cached = segment.get(query, 0L);
+
+        if (cached != null) {
+            if (cached.generation() == current) {
+                this.hits.increment();
+                return cached.page();
+            }
+
+            segment.invalidate(query, cached);
+        }
+
+        this.misses.increment();
+
+        final var reservation = segment.reserve(query);
+        Pagination<Category> loaded = null;
+
+        try {
+            loaded = snapshot(this.delegate.findAll(query));
+        } finally {
+            if (reservation != null) {
+                // Uma escrita durante a carga já tornou a página antiga.
+                if (loaded != null && this.generation.get() == current) {
+                    segment.complete(query, reservation, new Entry(loaded, current), weigh(query, loaded), CacheSegment.NEVER);
+                } else {
+                    segment.release(query, reservation);
+                }
+            }
+        }
+
+        return loaded;
+    }
+
+    @Override
+    public CursorPagination<Category> findAll(final CategoryCursorQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(this.hits.sum(), this.misses.sum(), this.evictions.sum());
+    }
+
+    /**
+     * Invalida todas as páginas em cache; usado quando as categorias são alteradas por outro
+     * caminho que não este decorador.
+     */
+    public void invalidateAll() {
+        this.generation.incrementAndGet();
+    }
+
+    private CacheSegment<CategorySearchQuery, Entry> segmentFor(final CategorySearchQuery query) {
+        final var hash = query.hashCode();
+        return this.segments[Math.floorMod(hash ^ (hash >>> 16), this.segments.length)];
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static CacheSegment<CategorySearchQuery, Entry>[] newSegments(final int count) {
+        return new CacheSegment[count];
+    }
+
+    private static Pagination<Category> snapshot(final Pagination<Category> page) {
+        final var items = new ArrayList<Category>(Math.max(page.perPage(), 0));
+        page.items().forEach(category -> items.add(category.withoutEvents()));
+        return new Pagination<>(page.currentPage(), page.perPage(), page.total(), List.copyOf(items));
+    }
+
+    private static long weigh(final CategorySearchQuery query, final Pagination<Category> page) {
+        var weight = ENTRY_OVERHEAD + weigh(query.terms()) + weigh(query.sort()) + weigh(query.direction());
+
+        for (final var category : page.items()) {
+            weight += CATEGORY_OVERHEAD + weigh(category.getName()) + weigh(category.getDescription());
+        }
+
+        return weight;
+    }
+
+    private static long weigh(final String value) {
+        return value == null ? 0 : STRING_OVERHEAD + 2L * value.length();
+    }
+
+    private record Entry(Pagination<Category> page, long generation) {
+    }
+}
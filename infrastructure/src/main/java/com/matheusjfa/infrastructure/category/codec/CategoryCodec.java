@@ -0,0 +1,319 @@
+package com.matheusjfa.infrastructure.category.codec;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryID;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Codificação binária versionada de {@link Category} e {@link CategoryID}.
+ * <p>
+ * Uma categoria é gravada como
+ * {@code [versão:u8][flags:u8][id][name][description][createdAt][updatedAt][deletedAt][version:varint]},
+ * em que {@code flags} indica se a categoria está ativa, se o ID é um UUID e quais campos
+ * anuláveis estão presentes; campos nulos não ocupam nenhum byte. IDs UUID ocupam 16 bytes
+ * fixos, os demais são strings. Strings são gravadas como tamanho em varint seguido dos bytes
+ * UTF-8, e instantes como segundos (8 bytes) e nanossegundos (4 bytes) desde a época.
+ * <p>
+ * A codificação escreve direto no {@link ByteBuffer} de destino e a decodificação lê direto
+ * do buffer de origem (heap, direto ou mapeado em memória), sem arrays intermediários.
+ * {@link #encodedSize(Category)} informa o espaço necessário antes de escrever.
+ */
+public final class CategoryCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final int ACTIVE = 1;
+    private static final int UUID_ID = 1 << 1;
+    private static final int NAME = 1 << 2;
+    private static final int DESCRIPTION = 1 << 3;
+    private static final int CREATED_AT = 1 << 4;
+    private static final int UPDATED_AT = 1 << 5;
+    private static final int DELETED_AT = 1 << 6;
+
+    private static final int UUID_SIZE = Long.BYTES * 2;
+    private static final int INSTANT_SIZE = Long.BYTES + Integer.BYTES;
+
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private static final byte STRING_ID = 0;
+    private static final byte UUID_ID_KIND = 1;
+
+    private CategoryCodec() {
+    }
+
+    public static int encodedSize(final Category category) {
+        return 2
+                + idSize(category.getId())
+                + stringSize(category.getName())
+                + stringSize(category.getDescription())
+                + instantSize(category.getCreatedAt())
+                + instantSize(category.getUpdatedAt())
+                + instantSize(category.getDeletedAt())
+                + varLongSize(category.getVersion());
+    }
+
+    /**
+     * @throws java.nio.BufferOverflowException se {@code out} não tiver
+     *                                          {@link #encodedSize(Category)} bytes livres.
+     */
+    public static void encode(final Category category, final ByteBuffer out) {
+        final var id = category.getId();
+
+        var flags = 0;
+        if (category.isActive()) flags |= ACTIVE;
+        if (id.isUuid()) flags |= UUID_ID;
+        if (category.getName() != null) flags |= NAME;
+        if (category.getDescription() != null) flags |= DESCRIPTION;
+        if (category.getCreatedAt() != null) flags |= CREATED_AT;
+        if (category.getUpdatedAt() != null) flags |= UPDATED_AT;
+        if (category.getDeletedAt() != null) flags |= DELETED_AT;
+
+        out.put(VERSION);
+        out.put((byte) flags);
+        writeIdPayload(id, out);
+        writeString(category.getName(), out);
+        writeString(category.getDescription(), out);
+        writeInstant(category.getCreatedAt(), out);
+        writeInstant(category.getUpdatedAt(), out);
+        writeInstant(category.getDeletedAt(), out);
+        writeVarLong(category.getVersion(), out);
+    }
+
+    public static Category decode(final ByteBuffer in) {
+        checkVersion(in.get());
+        final var flags = in.get();
+
+        final var id = (flags & UUID_ID) != 0 ? CategoryID.from(in.getLong(), in.getLong()) : CategoryID.from(readString(in));
+        final var name = (flags & NAME) != 0 ? readString(in) : null;
+        final var description = (flags & DESCRIPTION) != 0 ? readString(in) : null;
+        final var createdAt = (flags & CREATED_AT) != 0 ? readInstant(in) : null;
+        final var updatedAt = (flags & UPDATED_AT) != 0 ? readInstant(in) : null;
+        final var deletedAt = (flags & DELETED_AT) != 0 ? readInstant(in) : null;
+        final var version = readVarLong(in);
+
+        return Category.with(id, name, description, (flags & ACTIVE) != 0, createdAt, updatedAt, deletedAt, version);
+    }
+
+    public static int encodedSize(final CategoryID id) {
+        return 1 + idSize(id);
+    }
+
+    public static void encode(final CategoryID id, final ByteBuffer out) {
+        out.put(id.isUuid() ? UUID_ID_KIND : STRING_ID);
+        writeIdPayload(id, out);
+    }
+
+    public static CategoryID decodeId(final ByteBuffer in) {
+        final var kind = in.get();
+
+        return switch (kind) {
+            case UUID_ID_KIND -> CategoryID.from(in.getLong(), in.getLong());
+            case STRING_ID -> CategoryID.from(readString(in));
+            default -> throw new IllegalArgumentException("Tipo de ID de categoria desconhecido: %d".formatted(kind));
+        };
+    }
+
+    private static void checkVersion(final byte version) {
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Versão de codificação de categoria não suportada: %d".formatted(version));
+        }
+    }
+
+    private static int idSize(final CategoryID id) {
+        return id.isUuid() ? UUID_SIZE : stringSize(id.getValue());
+    }
+
+    private static void writeIdPayload(final CategoryID id, final ByteBuffer out) {
+        if (id.isUuid()) {
+            out.putLong(id.getMostSignificantBits());
+            out.putLong(id.getLeastSignificantBits());
+        } else {
+            writeString(id.getValue(), out);
+        }
+    }
+
+    private static int instantSize(final Instant value) {
+        return value == null ? 0 : INSTANT_SIZE;
+    }
+
+    private static void writeInstant(final Instant value, final ByteBuffer out) {
+        if (value != null) {
+            out.putLong(value.getEpochSecond());
+            out.putInt(value.getNano());
+        }
+    }
+
+    private static Instant readInstant(final ByteBuffer in) {
+        return Instant.ofEpochSecond(in.getLong(), in.getInt());
+    }
+
+    private static int stringSize(final String value) {
+        if (value == null) {
+            return 0;
+        }
+
+        final var length = utf8Length(value);
+        return varLongSize(length) + length;
+    }
+
+    /**
+     * Grava {@code value} como UTF-8, caractere a caractere, direto no buffer. Surrogates sem par
+     * viram {@code '?'}, como em {@link String#getBytes(java.nio.charset.Charset)}.
+     */
+    private static void writeString(final String value, final ByteBuffer out) {
+        if (value == null) {
+            return;
+        }
+
+        writeVarLong(utf8Length(value), out);
+
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | c >> 6));
+                out.put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    final var codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    out.put((byte) (0xF0 | codePoint >> 18));
+                    out.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                    out.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                    out.put((byte) (0x80 | codePoint & 0x3F));
+                } else {
+                    out.put((byte) '?');
+                }
+            } else {
+                out.put((byte) (0xE0 | c >> 12));
+                out.put((byte) (0x80 | c >> 6 & 0x3F));
+                out.put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    private static int utf8Length(final String value) {
+        var length = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else {
+                    length += 1;
+                }
+            } else {
+                length += 3;
+            }
+        }
+
+        return length;
+    }
+
+    private static String readString(final ByteBuffer in) {
+        final var length = (int) readVarLong(in);
+
+        if (in.hasArray()) {
+            final var value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+            return value;
+        }
+
+        return decodeUtf8(in, length);
+    }
+
+    /**
+     * Decodifica UTF-8 de um buffer sem array acessível (direto ou mapeado). Sequências
+     * inválidas viram {@code U+FFFD}.
+     */
+    private static String decodeUtf8(final ByteBuffer in, final int length) {
+        final var chars = new char[length];
+        final var end = in.position() + length;
+        var count = 0;
+
+        while (in.position() < end) {
+            final var b = in.get() & 0xFF;
+
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+                continue;
+            }
+
+            final int extra;
+            int codePoint;
+
+            if ((b & 0xE0) == 0xC0) {
+                extra = 1;
+                codePoint = b & 0x1F;
+            } else if ((b & 0xF0) == 0xE0) {
+                extra = 2;
+                codePoint = b & 0x0F;
+            } else if ((b & 0xF8) == 0xF0) {
+                extra = 3;
+                codePoint = b & 0x07;
+            } else {
+                chars[count++] = REPLACEMENT;
+                continue;
+            }
+
+            if (in.position() + extra > end) {
+                in.position(end);
+                chars[count++] = REPLACEMENT;
+                break;
+            }
+
+            var valid = true;
+            for (int i = 0; i < extra; i++) {
+                final var next = in.get() & 0xFF;
+                valid &= (next & 0xC0) == 0x80;
+                codePoint = codePoint << 6 | next & 0x3F;
+            }
+
+            if (!valid || !Character.isValidCodePoint(codePoint)) {
+                chars[count++] = REPLACEMENT;
+            } else {
+                count += Character.toChars(codePoint, chars, count);
+            }
+        }
+
+        return new String(chars, 0, count);
+    }
+
+    private static int varLongSize(final long value) {
+        return value == 0 ? 1 : (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7;
+    }
+
+    private static void writeVarLong(long value, final ByteBuffer out) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long readVarLong(final ByteBuffer in) {
+        long value = 0;
+
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            final var b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("Varint malformado na codificação de categoria");
+    }
+}
@@ -0,0 +1,122 @@
+package com.matheusjfa.infrastructure.category.events;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryCursorQuery;
+import com.matheusjfa.domain.category.CategoryDeleted;
+import com.matheusjfa.domain.category.CategoryGateway;
+import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.domain.category.CategorySearchQuery;
+import com.matheusjfa.domain.events.DomainEvent;
+import com.matheusjfa.domain.events.DomainEventPublisher;
+import com.matheusjfa.domain.pagination.CursorPagination;
+import com.matheusjfa.domain.pagination.Pagination;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorador de {@link CategoryGateway} que publica os eventos das categorias gravadas.
+ * <p>
+ * Os eventos registrados na categoria ({@link Category#pullEvents()}) só são publicados depois
+ * que o gateway decorado aceitou a escrita; uma escrita rejeitada, como um conflito de versão
+ * em {@code update}, não publica nada e mantém os eventos na categoria. Remoções publicam um
+ * {@link CategoryDeleted} quando o gateway decorado informa que removeu a categoria.
+ * <p>
+ * Se a publicação falhar, a escrita já foi aceita e não é desfeita: a exceção não é propagada,
+ * os eventos são perdidos e a falha é contada em {@link #publishFailures()}.
+ */
+public class EventPublishingCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway delegate;
+    private final DomainEventPublisher publisher;
+    private final LongAdder publishFailures;
+
+    public EventPublishingCategoryGateway(final CategoryGateway delegate, final DomainEventPublisher publisher) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.publisher = Objects.requireNonNull(publisher);
+        this.publishFailures = new LongAdder();
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var created = this.delegate.create(category);
+        publish(category.pullEvents());
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var created = this.delegate.createAll(categories);
+        final var events = new ArrayList<DomainEvent>(categories.size());
+
+        for (final var category : categories) {
+            events.addAll(category.pullEvents());
+        }
+
+        publish(events);
+        return created;
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var updated = this.delegate.update(category);
+        publish(category.pullEvents());
+        return updated;
+    }
+
+    @Override
+    public boolean deleteById(final CategoryID id) {
+        final var removed = this.delegate.deleteById(id);
+
+        if (removed) {
+            publish(List.of(new CategoryDeleted(id, Instant.now())));
+        }
+
+        return removed;
+    }
+
+    @Override
+    public boolean deleteById(final CategoryID id, final long expectedVersion) {
+        final var removed = this.delegate.deleteById(id, expectedVersion);
+
+        if (removed) {
+            publish(List.of(new CategoryDeleted(id, Instant.now())));
+        }
+
+        return removed;
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public CursorPagination<Category> findAll(final CategoryCursorQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    /**
+     * Número de publicações que lançaram exceção depois de a escrita ter sido aceita.
+     */
+    public long publishFailures() {
+        return this.publishFailures.sum();
+    }
+
+    private void publish(final List<? extends DomainEvent> events) {
+        try {
+            this.publisher.publish(events);
+        } catch (final RuntimeException ex) {
+            this.publishFailures.increment();
+        }
+    }
+}
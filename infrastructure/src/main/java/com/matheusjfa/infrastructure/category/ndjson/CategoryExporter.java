@@ -0,0 +1,42 @@
+package com.matheusjfa.infrastructure.category.ndjson;
+
+import com.matheusjfa.domain.category.CategoryGateway;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Exporta o catálogo para um arquivo NDJSON, uma categoria por linha.
+ * <p>
+ * As categorias são lidas com {@link CategoryGateway#streamAll()}, em lotes, e gravadas
+ * direto no buffer do arquivo; nem o catálogo nem o arquivo são montados em memória.
+ */
+public class CategoryExporter {
+
+    private final CategoryGateway gateway;
+
+    public CategoryExporter(final CategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    /**
+     * Grava todas as categorias em {@code file}, comprimindo com gzip se o nome terminar em
+     * {@code .gz}, e retorna quantas foram exportadas.
+     */
+    public long exportTo(final Path file) throws IOException {
+        long exported = 0;
+
+        try (final var out = NdjsonFiles.writer(file); final var categories = this.gateway.streamAll()) {
+            final var iterator = categories.iterator();
+
+            while (iterator.hasNext()) {
+                CategoryJson.write(iterator.next(), out);
+                out.write('\n');
+                exported++;
+            }
+        }
+
+        return exported;
+    }
+}
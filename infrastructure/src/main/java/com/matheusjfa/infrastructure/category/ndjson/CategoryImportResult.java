@@ -0,0 +1,16 @@
+package com.matheusjfa.infrastructure.category.ndjson;
+
+import com.matheusjfa.domain.validation.ErrorMessage;
+
+import java.util.List;
+
+/**
+ * Resultado de uma importação. {@code errors} traz, com o número da linha, apenas os
+ * primeiros erros encontrados; {@code rejected} conta todas as linhas rejeitadas.
+ */
+public record CategoryImportResult(
+        long imported,
+        long rejected,
+        List<ErrorMessage> errors
+) {
+}
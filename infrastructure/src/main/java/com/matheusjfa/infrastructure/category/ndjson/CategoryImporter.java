@@ -0,0 +1,198 @@
+package com.matheusjfa.infrastructure.category.ndjson;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryGateway;
+import com.matheusjfa.domain.category.CategoryValidator;
+import com.matheusjfa.domain.validation.ErrorMessage;
+import com.matheusjfa.domain.validation.handler.Notification;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Importa categorias de um arquivo NDJSON (opcionalmente comprimido com gzip).
+ * <p>
+ * A thread chamadora lê o arquivo e o divide em lotes de {@code batchSize} linhas. Cada lote
+ * é convertido, validado com o {@link CategoryValidator} e gravado com um único
+ * {@link CategoryGateway#createAll(List)} por uma das {@code parallelism} threads de trabalho.
+ * No máximo {@code 2 * parallelism} lotes ficam em memória: quando a validação ou o gateway
+ * não acompanham, a leitura espera, em vez de acumular o arquivo.
+ * <p>
+ * Linhas malformadas ou inválidas são rejeitadas individualmente. Se o gateway recusar um
+ * lote (por exemplo, por um ID já existente), as categorias dele são gravadas uma a uma para
+ * que apenas as recusadas sejam rejeitadas.
+ */
+public class CategoryImporter {
+
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final CategoryGateway gateway;
+    private final int batchSize;
+    private final int parallelism;
+
+    public CategoryImporter(final CategoryGateway gateway) {
+        this(gateway, DEFAULT_BATCH_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    public CategoryImporter(final CategoryGateway gateway, final int batchSize, final int parallelism) {
+        if (batchSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("O tamanho do lote e o paralelismo devem ser positivos");
+        }
+
+        this.gateway = Objects.requireNonNull(gateway);
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+    }
+
+    public CategoryImportResult importFrom(final Path file) throws IOException, InterruptedException {
+        final var permits = this.parallelism * 2;
+        final var inFlight = new Semaphore(permits);
+        final var report = new Report();
+        final var threads = new AtomicInteger();
+        final var executor = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            final var thread = new Thread(runnable, "category-import-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try (final var reader = NdjsonFiles.reader(file)) {
+            var batch = new ArrayList<Line>(this.batchSize);
+            long number = 0;
+            String text;
+
+            while ((text = reader.readLine()) != null) {
+                number++;
+
+                if (text.isBlank()) {
+                    continue;
+                }
+
+                batch.add(new Line(number, text));
+
+                if (batch.size() == this.batchSize) {
+                    submit(executor, inFlight, batch, report);
+                    batch = new ArrayList<>(this.batchSize);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                submit(executor, inFlight, batch, report);
+            }
+
+            inFlight.acquire(permits);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return report.result();
+    }
+
+    private void submit(
+            final Executor executor,
+            final Semaphore inFlight,
+            final List<Line> batch,
+            final Report report
+    ) throws InterruptedException {
+        inFlight.acquire();
+
+        try {
+            executor.execute(() -> {
+                try {
+                    process(batch, report);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (final RuntimeException ex) {
+            inFlight.release();
+            throw ex;
+        }
+    }
+
+    private void process(final List<Line> batch, final Report report) {
+        final var valid = new ArrayList<Category>(batch.size());
+        final var lines = new ArrayList<Line>(batch.size());
+
+        for (final var line : batch) {
+            try {
+                final var category = CategoryJson.read(line.text());
+                final var notification = Notification.create();
+                CategoryValidator.validate(category, notification);
+
+                if (notification.hasErrors()) {
+                    report.reject(line, notification.getErrors().get(0).message());
+                } else {
+                    valid.add(category);
+                    lines.add(line);
+                }
+            } catch (final Exception ex) {
+                report.reject(line, ex.getMessage());
+            }
+        }
+
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            this.gateway.createAll(valid);
+            report.imported(valid.size());
+        } catch (final RuntimeException batchFailure) {
+            for (int i = 0; i < valid.size(); i++) {
+                try {
+                    this.gateway.create(valid.get(i));
+                    report.imported(1);
+                } catch (final RuntimeException ex) {
+                    report.reject(lines.get(i), ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private record Line(long number, String text) {
+    }
+
+    private record Rejection(long line, String reason) {
+    }
+
+    private static final class Report {
+        private final LongAdder imported = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final Queue<Rejection> errors = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger reported = new AtomicInteger();
+
+        void imported(final int count) {
+            this.imported.add(count);
+        }
+
+        void reject(final Line line, final String reason) {
+            this.rejected.increment();
+
+            if (this.reported.incrementAndGet() <= MAX_REPORTED_ERRORS) {
+                this.errors.add(new Rejection(line.number(), reason));
+            }
+        }
+
+        CategoryImportResult result() {
+            final var errors = this.errors.stream()
+                    .sorted(Comparator.comparingLong(Rejection::line))
+                    .map(rejection -> new ErrorMessage("Linha %d: %s".formatted(rejection.line(), rejection.reason())))
+                    .toList();
+
+            return new CategoryImportResult(this.imported.sum(), this.rejected.sum(), errors);
+        }
+    }
+}
@@ -0,0 +1,484 @@
+package com.matheusjfa.infrastructure.category.ndjson;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryID;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Conversão entre {@link Category} e uma linha JSON.
+ * <p>
+ * O formato é um objeto plano com {@code id}, {@code name}, {@code description},
+ * {@code isActive}, {@code createdAt}, {@code updatedAt}, {@code deletedAt} (ISO-8601) e
+ * {@code version}. O parser aceita apenas objetos desse formato — valores string, booleanos,
+ * números e null — e ignora chaves desconhecidas; não há dependência de uma biblioteca JSON
+ * nem reflexão, o que mantém a importação limitada pela leitura do arquivo.
+ */
+final class CategoryJson {
+
+    private CategoryJson() {
+    }
+
+    static void write(final Category category, final Appendable out) throws IOException {
+        out.append("{\"id\":");
+        writeString(category.getId().getValue(), out);
+        out.append(",\"name\":");
+        writeString(category.getName(), out);
+        out.append(",\"description\":");
+        writeString(category.getDescription(), out);
+        out.append(",\"isActive\":").append(category.isActive() ? "true" : "false");
+        out.append(",\"createdAt\":");
+        writeInstant(category.getCreatedAt(), out);
+        out.append(",\"updatedAt\":");
+        writeInstant(category.getUpdatedAt(), out);
+        out.append(",\"deletedAt\":");
+        writeInstant(category.getDeletedAt(), out);
+        out.append(",\"version\":").append(Long.toString(category.getVersion()));
+        out.append('}');
+    }
+
+    /**
+     * @throws IllegalArgumentException se a linha não for um objeto JSON válido ou não tiver
+     *                                  o {@code id}.
+     */
+    static Category read(final String line) {
+        return new Parser(line).category();
+    }
+
+    private static void writeInstant(final Instant value, final Appendable out) throws IOException {
+        if (value == null) {
+            out.append("null");
+        } else {
+            out.append('"').append(value.toString()).append('"');
+        }
+    }
+
+    private static void writeString(final String value, final Appendable out) throws IOException {
+        if (value == null) {
+            out.append("null");
+            return;
+        }
+
+        out.append('"');
+        int start = 0;
+
+        for (int i = 0; i < value.length(); i++) {
+            final var c = value.charAt(i);
+            final String escaped;
+
+            switch (c) {
+                case '"' -> escaped = "\\\"";
+                case '\\' -> escaped = "\\\\";
+                case '\n' -> escaped = "\\n";
+                case '\r' -> escaped = "\\r";
+                case '\t' -> escaped = "\\t";
+                default -> escaped = c < 0x20 ? "\\u%04x".formatted((int) c) : null;
+            }
+
+            if (escaped != null) {
+                out.append(value, start, i).append(escaped);
+                start = i + 1;
+            }
+        }
+
+        out.append(value, start, value.length()).append('"');
+    }
+
+    /**
+     * Lê {@code value[start, end)} no formato que {@link Instant#toString()} grava para anos de
+     * 0000 a 9999, {@code aaaa-MM-ddTHH:mm:ss[.fração]Z}, sem o {@code DateTimeFormatter}
+     * genérico de {@link Instant#parse}, que dominava o custo da linha. Retorna {@code null}
+     * para qualquer outro formato, que fica com {@link Instant#parse}.
+     *
+     * @throws DateTimeException se a data estiver no formato, mas for inválida.
+     */
+    static Instant canonicalInstant(final String value, final int start, final int end) {
+        final var length = end - start;
+
+        if (length < 20 || length == 21 || length > 30
+                || value.charAt(start + 4) != '-' || value.charAt(start + 7) != '-' || value.charAt(start + 10) != 'T'
+                || value.charAt(start + 13) != ':' || value.charAt(start + 16) != ':' || value.charAt(end - 1) != 'Z'
+                || length > 20 && value.charAt(start + 19) != '.') {
+            return null;
+        }
+
+        final var year = digits(value, start, start + 4);
+        final var month = digits(value, start + 5, start + 7);
+        final var day = digits(value, start + 8, start + 10);
+        final var hour = digits(value, start + 11, start + 13);
+        final var minute = digits(value, start + 14, start + 16);
+        final var second = digits(value, start + 17, start + 19);
+        var nanos = length > 20 ? digits(value, start + 20, end - 1) : 0;
+
+        // Dígitos inválidos, ou horários que Instant.parse trata à parte (como o segundo bissexto).
+        if ((year | month | day | hour | minute | second | nanos) < 0 || hour > 23 || minute > 59 || second > 59) {
+            return null;
+        }
+
+        for (int i = length - 1; i < 29; i++) {
+            nanos *= 10;
+        }
+
+        final var epochDay = LocalDate.of(year, month, day).toEpochDay();
+        return Instant.ofEpochSecond(epochDay * 86_400 + hour * 3_600L + minute * 60L + second, nanos);
+    }
+
+    // Valor decimal de value[start, end), ou -1 se houver algo que não seja dígito.
+    private static int digits(final String value, final int start, final int end) {
+        var result = 0;
+
+        for (int i = start; i < end; i++) {
+            final var c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+
+        return result;
+    }
+
+    private static final class Parser {
+        private static final int MAX_DEPTH = 64;
+
+        private final String input;
+        private int position;
+
+        private String id;
+        private String name;
+        private String description;
+        private boolean isActive;
+        private Instant createdAt;
+        private Instant updatedAt;
+        private Instant deletedAt;
+        private long version;
+
+        // Posição da próxima barra invertida a partir da última consulta; -1 quando não há mais nenhuma.
+        private int escape = -2;
+
+        private Parser(final String input) {
+            this.input = input;
+        }
+
+        private Category category() {
+            expect('{');
+
+            if (peek() != '}') {
+                do {
+                    final var key = key();
+                    expect(':');
+                    field(key);
+                } while (consume(','));
+            }
+
+            expect('}');
+            skipWhitespace();
+
+            if (this.position != this.input.length()) {
+                throw error("conteúdo após o objeto");
+            }
+
+            if (this.id == null) {
+                throw error("campo 'id' ausente");
+            }
+
+            if (this.createdAt == null) {
+                throw error("campo 'createdAt' ausente");
+            }
+
+            if (this.updatedAt == null) {
+                throw error("campo 'updatedAt' ausente");
+            }
+
+            // Uma categoria nunca alterada tem as duas datas iguais: guarda uma só instância.
+            final var updatedAt = this.updatedAt.equals(this.createdAt) ? this.createdAt : this.updatedAt;
+
+            return Category.with(CategoryID.from(this.id), this.name, this.description, this.isActive, this.createdAt, updatedAt, this.deletedAt, this.version);
+        }
+
+        private void field(final String key) {
+            switch (key) {
+                case "id" -> this.id = string();
+                case "name" -> this.name = string();
+                case "description" -> this.description = string();
+                case "isActive" -> this.isActive = bool();
+                case "createdAt" -> this.createdAt = instant();
+                case "updatedAt" -> this.updatedAt = instant();
+                case "deletedAt" -> this.deletedAt = instant();
+                case "version" -> this.version = number();
+                default -> skipValue();
+            }
+        }
+
+        private Instant instant() {
+            // O texto canônico não tem escapes: é lido direto da linha, sem criar a string.
+            if (peek() == '"') {
+                final var start = this.position + 1;
+                final var end = this.input.indexOf('"', start);
+
+                if (end > 0) {
+                    try {
+                        final var canonical = canonicalInstant(this.input, start, end);
+                        if (canonical != null) {
+                            this.position = end + 1;
+                            return canonical;
+                        }
+                    } catch (final DateTimeException ex) {
+                        throw error("data inválida '%s'".formatted(this.input.substring(start, end)));
+                    }
+                }
+            }
+
+            final var value = string();
+
+            if (value == null) {
+                return null;
+            }
+
+            try {
+                return Instant.parse(value);
+            } catch (final DateTimeException ex) {
+                throw error("data inválida '%s'".formatted(value));
+            }
+        }
+
+        private boolean bool() {
+            if (literal("true")) {
+                return true;
+            }
+            if (literal("false")) {
+                return false;
+            }
+            throw error("booleano esperado");
+        }
+
+        private long number() {
+            skipWhitespace();
+            final var start = this.position;
+
+            if (this.position < this.input.length() && this.input.charAt(this.position) == '-') {
+                this.position++;
+            }
+            while (this.position < this.input.length() && Character.isDigit(this.input.charAt(this.position))) {
+                this.position++;
+            }
+
+            try {
+                return Long.parseLong(this.input, start, this.position, 10);
+            } catch (final NumberFormatException ex) {
+                throw error("número inteiro esperado");
+            }
+        }
+
+        // Valores de chaves desconhecidas podem ser qualquer JSON; a recursão em objetos e arrays
+        // é limitada para que uma linha malformada não estoure a pilha.
+        private void skipValue() {
+            skipValue(0);
+        }
+
+        private void skipValue(final int depth) {
+            if (depth > MAX_DEPTH) {
+                throw error("valor aninhado demais");
+            }
+
+            switch (peek()) {
+                case '"' -> string();
+                case 't', 'f' -> bool();
+                case 'n' -> {
+                    if (!literal("null")) {
+                        throw error("valor esperado");
+                    }
+                }
+                case '{' -> {
+                    this.position++;
+                    if (!consume('}')) {
+                        do {
+                            key();
+                            expect(':');
+                            skipValue(depth + 1);
+                        } while (consume(','));
+                        expect('}');
+                    }
+                }
+                case '[' -> {
+                    this.position++;
+                    if (!consume(']')) {
+                        do {
+                            skipValue(depth + 1);
+                        } while (consume(','));
+                        expect(']');
+                    }
+                }
+                default -> skipNumber();
+            }
+        }
+
+        private void skipNumber() {
+            consume('-');
+
+            if (skipDigits() == 0) {
+                throw error("valor esperado");
+            }
+
+            if (this.position < this.input.length() && this.input.charAt(this.position) == '.') {
+                this.position++;
+                if (skipDigits() == 0) {
+                    throw error("dígito esperado após o ponto decimal");
+                }
+            }
+
+            if (this.position < this.input.length() && (this.input.charAt(this.position) | 0x20) == 'e') {
+                this.position++;
+                if (this.position < this.input.length() && (this.input.charAt(this.position) == '+' || this.input.charAt(this.position) == '-')) {
+                    this.position++;
+                }
+                if (skipDigits() == 0) {
+                    throw error("dígito esperado no expoente");
+                }
+            }
+        }
+
+        private int skipDigits() {
+            final var start = this.position;
+            while (this.position < this.input.length() && this.input.charAt(this.position) >= '0' && this.input.charAt(this.position) <= '9') {
+                this.position++;
+            }
+            return this.position - start;
+        }
+
+        private String key() {
+            if (peek() != '"') {
+                throw error("chave esperada");
+            }
+            return string();
+        }
+
+        private String string() {
+            if (literal("null")) {
+                return null;
+            }
+
+            expect('"');
+            int start = this.position;
+
+            // Sem escapes até a aspa final (o caso comum), a string é um recorte da linha; indexOf
+            // varre a linha bem mais rápido que o laço abaixo, caractere a caractere.
+            final var quote = this.input.indexOf('"', start);
+            final var escape = nextEscape(start);
+            if (quote >= 0 && (escape < 0 || escape > quote)) {
+                this.position = quote + 1;
+                return this.input.substring(start, quote);
+            }
+
+            StringBuilder builder = null;
+
+            while (true) {
+                if (this.position >= this.input.length()) {
+                    throw error("string não terminada");
+                }
+
+                final var c = this.input.charAt(this.position);
+
+                if (c == '"') {
+                    final var value = builder == null
+                            ? this.input.substring(start, this.position)
+                            : builder.append(this.input, start, this.position).toString();
+                    this.position++;
+                    return value;
+                }
+
+                if (c != '\\') {
+                    this.position++;
+                    continue;
+                }
+
+                if (builder == null) {
+                    builder = new StringBuilder();
+                }
+                builder.append(this.input, start, this.position);
+                builder.append(escape());
+                start = this.position;
+            }
+        }
+
+        private int nextEscape(final int from) {
+            if (this.escape != -1 && this.escape < from) {
+                this.escape = this.input.indexOf('\\', from);
+            }
+            return this.escape;
+        }
+
+        private char escape() {
+            if (this.position + 1 >= this.input.length()) {
+                throw error("escape incompleto");
+            }
+
+            final var c = this.input.charAt(this.position + 1);
+            this.position += 2;
+
+            return switch (c) {
+                case '"', '\\', '/' -> c;
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 't' -> '\t';
+                case 'u' -> {
+                    if (this.position + 4 > this.input.length()) {
+                        throw error("escape unicode incompleto");
+                    }
+                    try {
+                        final var code = Integer.parseInt(this.input, this.position, this.position + 4, 16);
+                        this.position += 4;
+                        yield (char) code;
+                    } catch (final NumberFormatException ex) {
+                        throw error("escape unicode inválido");
+                    }
+                }
+                default -> throw error("escape inválido '\\%c'".formatted(c));
+            };
+        }
+
+        private boolean literal(final String literal) {
+            skipWhitespace();
+
+            if (this.input.startsWith(literal, this.position)) {
+                this.position += literal.length();
+                return true;
+            }
+            return false;
+        }
+
+        private boolean consume(final char expected) {
+            if (peek() == expected) {
+                this.position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(final char expected) {
+            if (!consume(expected)) {
+                throw error("'%c' esperado".formatted(expected));
+            }
+        }
+
+        private char peek() {
+            skipWhitespace();
+            return this.position < this.input.length() ? this.input.charAt(this.position) : '\0';
+        }
+
+        private void skipWhitespace() {
+            while (this.position < this.input.length() && this.input.charAt(this.position) <= ' ') {
+                this.position++;
+            }
+        }
+
+        private IllegalArgumentException error(final String reason) {
+            return new IllegalArgumentException("JSON de categoria inválido na posição %d: %s".formatted(this.position, reason));
+        }
+    }
+}
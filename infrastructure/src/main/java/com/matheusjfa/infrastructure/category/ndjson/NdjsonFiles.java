@@ -0,0 +1,134 @@
+package com.matheusjfa.infrastructure.category.ndjson;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Abertura dos arquivos NDJSON: UTF-8, com buffers grandes, comprimidos com gzip quando o
+ * nome termina em {@value #GZIP_EXTENSION}.
+ */
+final class NdjsonFiles {
+
+    static final String GZIP_EXTENSION = ".gz";
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private NdjsonFiles() {
+    }
+
+    static BufferedWriter writer(final Path file) throws IOException {
+        final var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        var out = Channels.newOutputStream(channel);
+
+        if (isCompressed(file)) {
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    static LineReader reader(final Path file) throws IOException {
+        final var channel = FileChannel.open(file, StandardOpenOption.READ);
+        var in = Channels.newInputStream(channel);
+
+        if (isCompressed(file)) {
+            in = new GZIPInputStream(in, BUFFER_SIZE);
+        }
+
+        return new LineReader(in);
+    }
+
+    private static boolean isCompressed(final Path file) {
+        return file.getFileName().toString().endsWith(GZIP_EXTENSION);
+    }
+
+    /**
+     * Leitor de linhas UTF-8. Separa as linhas nos próprios bytes (um {@code '\n'} nunca faz
+     * parte de outro caractere em UTF-8) e decodifica cada uma com
+     * {@link String#String(byte[], int, int, java.nio.charset.Charset)}, bem mais rápido para
+     * texto quase todo ASCII que o {@code CharsetDecoder} de um {@code InputStreamReader}.
+     * Um {@code '\r'} antes do {@code '\n'} é descartado, como em
+     * {@link java.io.BufferedReader#readLine()}.
+     */
+    static final class LineReader implements AutoCloseable {
+        private final InputStream in;
+        private byte[] buffer = new byte[BUFFER_SIZE];
+        private int start;
+        private int end;
+        private boolean eof;
+
+        private LineReader(final InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * @return a próxima linha, sem o terminador, ou {@code null} no fim do arquivo.
+         */
+        String readLine() throws IOException {
+            int scanned = this.start;
+
+            while (true) {
+                for (int i = scanned; i < this.end; i++) {
+                    if (this.buffer[i] == '\n') {
+                        final var line = decode(this.start, i);
+                        this.start = i + 1;
+                        return line;
+                    }
+                }
+
+                if (this.eof) {
+                    if (this.start == this.end) {
+                        return null;
+                    }
+                    final var line = decode(this.start, this.end);
+                    this.start = this.end;
+                    return line;
+                }
+
+                scanned = this.end - this.start;
+                fill();
+            }
+        }
+
+        // Move a linha incompleta para o início do buffer (dobrando-o se ela já o ocupar todo) e lê mais bytes.
+        private void fill() throws IOException {
+            final var pending = this.end - this.start;
+
+            if (pending == this.buffer.length) {
+                this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+            } else {
+                System.arraycopy(this.buffer, this.start, this.buffer, 0, pending);
+            }
+
+            this.start = 0;
+            this.end = pending;
+
+            final var read = this.in.read(this.buffer, this.end, this.buffer.length - this.end);
+            if (read < 0) {
+                this.eof = true;
+            } else {
+                this.end += read;
+            }
+        }
+
+        private String decode(final int from, final int to) {
+            final var length = to > from && this.buffer[to - 1] == '\r' ? to - from - 1 : to - from;
+            return new String(this.buffer, from, length, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.in.close();
+        }
+    }
+}
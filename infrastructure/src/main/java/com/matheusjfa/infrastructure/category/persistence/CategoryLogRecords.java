@@ -0,0 +1,65 @@
+package com.matheusjfa.infrastructure.category.persistence;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.infrastructure.category.codec.CategoryCodec;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Formato dos registros do {@link CategoryWriteAheadLog}: um byte de tipo seguido das
+ * categorias gravadas ou do ID removido, codificados com o {@link CategoryCodec}.
+ */
+final class CategoryLogRecords {
+
+    private static final byte UPSERT = 1;
+    private static final byte DELETE = 2;
+
+    private CategoryLogRecords() {
+    }
+
+    interface Visitor {
+        void upsert(Category category);
+
+        void delete(CategoryID id);
+    }
+
+    static ByteBuffer upsert(final List<Category> categories) {
+        var size = 1 + Integer.BYTES;
+        for (final var category : categories) {
+            size += CategoryCodec.encodedSize(category);
+        }
+
+        final var record = ByteBuffer.allocate(size)
+                .put(UPSERT)
+                .putInt(categories.size());
+
+        for (final var category : categories) {
+            CategoryCodec.encode(category, record);
+        }
+
+        return record.flip();
+    }
+
+    static ByteBuffer delete(final CategoryID id) {
+        final var record = ByteBuffer.allocate(1 + CategoryCodec.encodedSize(id)).put(DELETE);
+        CategoryCodec.encode(id, record);
+        return record.flip();
+    }
+
+    static void read(final ByteBuffer record, final Visitor visitor) {
+        final var type = record.get();
+
+        switch (type) {
+            case UPSERT -> {
+                final var count = record.getInt();
+                for (int i = 0; i < count; i++) {
+                    visitor.upsert(CategoryCodec.decode(record));
+                }
+            }
+            case DELETE -> visitor.delete(CategoryCodec.decodeId(record));
+            default -> throw new IllegalStateException("Tipo de registro desconhecido no log de categorias: %d".formatted(type));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.matheusjfa.infrastructure.category.persistence;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.infrastructure.category.codec.CategoryCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Snapshot compacto de todas as categorias.
+ * <p>
+ * O arquivo guarda um cabeçalho com a geração do primeiro segmento de log que <em>não</em>
+ * está contido no snapshot, seguido das categorias codificadas com o {@link CategoryCodec}.
+ * A escrita vai para um arquivo temporário que só substitui o snapshot anterior depois de
+ * sincronizado, então um snapshot lido é sempre completo. A leitura mapeia o arquivo em
+ * memória e decodifica direto do {@link java.nio.MappedByteBuffer}, sem copiá-lo para a heap.
+ */
+final class CategorySnapshotFile {
+
+    private static final int MAGIC = 0x43415453;
+    private static final int FORMAT = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 3 + Long.BYTES;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private CategorySnapshotFile() {
+    }
+
+    static void write(final Path file, final long nextGeneration, final List<Category> categories) throws IOException {
+        final var temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (final var channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            var buffer = ByteBuffer.allocate(BUFFER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT)
+                    .putLong(nextGeneration)
+                    .putInt(categories.size());
+
+            for (final var category : categories) {
+                final var size = CategoryCodec.encodedSize(category);
+
+                if (buffer.remaining() < size) {
+                    flush(channel, buffer);
+                    if (buffer.capacity() < size) {
+                        buffer = ByteBuffer.allocate(size);
+                    }
+                }
+
+                CategoryCodec.encode(category, buffer);
+            }
+
+            flush(channel, buffer);
+            channel.force(true);
+        }
+
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Repassa as categorias do snapshot ao {@code consumer} e retorna a geração do primeiro
+     * segmento de log a ser reproduzido depois dele, ou zero se não houver snapshot.
+     */
+    static long read(final Path file, final Consumer<Category> consumer) throws IOException {
+        if (!Files.exists(file)) {
+            return 0L;
+        }
+
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Snapshot de categorias inválido: %s".formatted(file));
+            }
+
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            final var magic = buffer.getInt();
+            final var format = buffer.getInt();
+
+            if (magic != MAGIC || format != FORMAT) {
+                throw new IOException("Snapshot de categorias inválido: %s".formatted(file));
+            }
+
+            final var nextGeneration = buffer.getLong();
+            final var count = buffer.getInt();
+
+            for (int i = 0; i < count; i++) {
+                consumer.accept(CategoryCodec.decode(buffer));
+            }
+
+            return nextGeneration;
+        }
+    }
+
+    private static void flush(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,266 @@
+package com.matheusjfa.infrastructure.category.persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Log append-only de registros binários com group commit.
+ * <p>
+ * Cada registro é gravado como {@code [tamanho][crc32c][payload]}. Os escritores apenas
+ * enfileiram seus registros e recebem um {@link CompletableFuture} que completa quando o
+ * registro estiver em disco. Uma única thread grava tudo o que estiver na fila e faz um só
+ * {@link FileChannel#force(boolean)} por lote; com uma janela de durabilidade maior que zero,
+ * ela ainda espera essa janela após o primeiro registro para juntar mais escritores no mesmo
+ * {@code force}.
+ * <p>
+ * Na abertura, os registros existentes são repassados em ordem; um final de arquivo
+ * incompleto ou corrompido (queda no meio de uma escrita) é descartado.
+ */
+final class CategoryWriteAheadLog implements AutoCloseable {
+
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final FileChannel channel;
+    private final long durabilityWindowNanos;
+    private final BlockingQueue<PendingWrite> queue;
+    private final Thread flusher;
+
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    private CategoryWriteAheadLog(final FileChannel channel, final Duration durabilityWindow) {
+        this.channel = channel;
+        this.durabilityWindowNanos = durabilityWindow.toNanos();
+        this.queue = new LinkedBlockingQueue<>();
+        this.flusher = new Thread(this::flushLoop, "category-wal-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    static CategoryWriteAheadLog open(
+            final Path path,
+            final Duration durabilityWindow,
+            final Consumer<ByteBuffer> replay
+    ) throws IOException {
+        final var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            final var end = replay(channel, replay);
+            channel.truncate(end);
+            channel.position(end);
+        } catch (final IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+
+        final var log = new CategoryWriteAheadLog(channel, durabilityWindow);
+        log.flusher.start();
+        return log;
+    }
+
+    CompletableFuture<Void> append(final ByteBuffer payload) {
+        final var write = new PendingWrite(payload, new CompletableFuture<>());
+
+        if (this.closed) {
+            write.done().completeExceptionally(new IllegalStateException("O log de categorias está fechado"));
+        } else if (this.failure != null) {
+            write.done().completeExceptionally(this.failure);
+        } else {
+            this.queue.add(write);
+
+            // Falhou ou fechou entre a verificação e o add: o flusher pode já ter saído sem ver este registro.
+            final var failure = this.failure;
+            if (failure != null) {
+                failPending(failure);
+            } else if (this.closed && !this.flusher.isAlive()) {
+                failPending(new IOException("O log de categorias está fechado"));
+            }
+        }
+
+        return write.done();
+    }
+
+    void ensureWritable() {
+        if (this.closed) {
+            throw new IllegalStateException("O log de categorias está fechado");
+        }
+
+        if (this.failure != null) {
+            throw new UncheckedIOException(this.failure);
+        }
+    }
+
+    FileChannel channel() {
+        return this.channel;
+    }
+
+    Thread flusher() {
+        return this.flusher;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+
+        try {
+            this.flusher.join();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            failPending(new IOException("O log de categorias está fechado"));
+            this.channel.close();
+        }
+    }
+
+    private void flushLoop() {
+        final var batch = new ArrayList<PendingWrite>();
+
+        while (!this.closed || !this.queue.isEmpty()) {
+            try {
+                final var first = this.queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                collectWithinWindow(batch);
+                this.queue.drainTo(batch);
+
+                write(batch);
+                batch.forEach(write -> write.done().complete(null));
+            } catch (final IOException ex) {
+                fail(batch, ex);
+                return;
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                fail(batch, new IOException("A gravação do log de categorias foi interrompida", ex));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectWithinWindow(final List<PendingWrite> batch) throws InterruptedException {
+        if (this.durabilityWindowNanos <= 0) {
+            return;
+        }
+
+        final var deadline = System.nanoTime() + this.durabilityWindowNanos;
+        long remaining;
+
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            final var next = this.queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(final List<PendingWrite> batch) throws IOException {
+        final var buffers = new ByteBuffer[batch.size() * 2];
+        final var crc = new CRC32C();
+
+        for (int i = 0; i < batch.size(); i++) {
+            final var payload = batch.get(i).payload();
+
+            crc.reset();
+            crc.update(payload.duplicate());
+
+            buffers[i * 2] = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(payload.remaining())
+                    .putInt((int) crc.getValue())
+                    .flip();
+            buffers[i * 2 + 1] = payload;
+        }
+
+        while (hasRemaining(buffers)) {
+            this.channel.write(buffers);
+        }
+
+        this.channel.force(false);
+    }
+
+    private void fail(final List<PendingWrite> batch, final IOException ex) {
+        this.failure = ex;
+        batch.forEach(write -> write.done().completeExceptionally(ex));
+        failPending(ex);
+    }
+
+    private void failPending(final IOException ex) {
+        final var pending = new ArrayList<PendingWrite>();
+        this.queue.drainTo(pending);
+        pending.forEach(write -> write.done().completeExceptionally(ex));
+    }
+
+    private static long replay(final FileChannel channel, final Consumer<ByteBuffer> replay) throws IOException {
+        final var size = channel.size();
+        final var header = ByteBuffer.allocate(HEADER_SIZE);
+        final var crc = new CRC32C();
+        long position = 0;
+
+        while (position + HEADER_SIZE <= size) {
+            header.clear();
+            readFully(channel, header, position);
+
+            final var length = header.flip().getInt();
+            final var checksum = header.getInt();
+
+            if (length < 0 || position + HEADER_SIZE + length > size) {
+                break;
+            }
+
+            final var payload = ByteBuffer.allocate(length);
+            readFully(channel, payload, position + HEADER_SIZE);
+            payload.flip();
+
+            crc.reset();
+            crc.update(payload.duplicate());
+
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+
+            replay.accept(payload);
+            position += HEADER_SIZE + length;
+        }
+
+        return position;
+    }
+
+    private static void readFully(final FileChannel channel, final ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            final var read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Fim inesperado do log de categorias");
+            }
+            position += read;
+        }
+    }
+
+    private static boolean hasRemaining(final ByteBuffer[] buffers) {
+        for (final var buffer : buffers) {
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record PendingWrite(ByteBuffer payload, CompletableFuture<Void> done) {
+    }
+}
@@ -0,0 +1,384 @@
+package com.matheusjfa.infrastructure.category.persistence;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryCursorQuery;
+import com.matheusjfa.domain.category.CategoryGateway;
+import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.domain.category.CategorySearchQuery;
+import com.matheusjfa.domain.pagination.CursorPagination;
+import com.matheusjfa.domain.pagination.Pagination;
+import com.matheusjfa.infrastructure.category.InMemoryCategoryGateway;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link CategoryGateway} persistido em disco por meio de um write-ahead log.
+ * <p>
+ * Toda escrita é validada contra o índice em memória ({@link InMemoryCategoryGateway}), que
+ * também responde às leituras, registrada no {@link CategoryWriteAheadLog} e só aplicada ao
+ * índice depois que o registro estiver em disco: se a gravação falhar, a exceção é propagada
+ * e nenhum leitor chega a ver a escrita. Como o log faz group commit, escritores concorrentes
+ * compartilham o mesmo {@code force()} e a vazão não fica limitada à taxa de fsync do disco.
+ * Escritas de um mesmo ID são serializadas por locks listrados, mantidos até a escrita ser
+ * aplicada, para que a ordem no log seja a mesma ordem aplicada em memória.
+ * <p>
+ * O diretório guarda um snapshot ({@value #SNAPSHOT_FILE}) e segmentos de log numerados por
+ * geração. {@link #snapshot()} fecha o segmento atual, abre o próximo, grava todas as
+ * categorias no snapshot e apaga os segmentos que ele cobre; assim, ao abrir, basta carregar
+ * o snapshot mapeado em memória e reproduzir a cauda curta do log.
+ */
+public class WriteAheadLogCategoryGateway implements CategoryGateway, AutoCloseable {
+
+    static final String SNAPSHOT_FILE = "categories.snapshot";
+
+    private static final int STRIPES = 64;
+    private static final int SNAPSHOT_PAGE_SIZE = 1_024;
+    private static final Pattern SEGMENT = Pattern.compile("categories-(\\d{16})\\.wal");
+
+    private final Path directory;
+    private final Duration durabilityWindow;
+    private final InMemoryCategoryGateway index;
+    private final ReentrantLock[] stripes;
+    private final ReentrantReadWriteLock checkpointLock;
+    private final ReentrantLock snapshotLock;
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder snapshotFailures;
+
+    private volatile CategoryWriteAheadLog log;
+    private long generation;
+
+    private WriteAheadLogCategoryGateway(
+            final Path directory,
+            final Duration durabilityWindow,
+            final InMemoryCategoryGateway index,
+            final CategoryWriteAheadLog log,
+            final long generation,
+            final Duration snapshotInterval
+    ) {
+        this.directory = directory;
+        this.durabilityWindow = durabilityWindow;
+        this.index = index;
+        this.log = log;
+        this.generation = generation;
+        this.stripes = new ReentrantLock[STRIPES];
+        this.checkpointLock = new ReentrantReadWriteLock();
+        this.snapshotLock = new ReentrantLock();
+        this.snapshotFailures = new LongAdder();
+
+        for (int i = 0; i < STRIPES; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+
+        if (snapshotInterval.isZero() || snapshotInterval.isNegative()) {
+            this.scheduler = null;
+        } else {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final var thread = new Thread(runnable, "category-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            final var period = snapshotInterval.toMillis();
+            this.scheduler.scheduleWithFixedDelay(this::snapshotQuietly, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Abre (ou cria) o armazenamento em {@code directory} sem snapshots periódicos.
+     *
+     * @see #open(Path, Duration, Duration)
+     */
+    public static WriteAheadLogCategoryGateway open(final Path directory, final Duration durabilityWindow) throws IOException {
+        return open(directory, durabilityWindow, Duration.ZERO);
+    }
+
+    /**
+     * Abre (ou cria) o armazenamento em {@code directory}, carregando o snapshot e reproduzindo
+     * os segmentos de log posteriores a ele.
+     *
+     * @param durabilityWindow quanto tempo o group commit espera, após a primeira escrita de um
+     *                         lote, para juntar outras no mesmo {@code force()}; zero grava assim
+     *                         que o lote anterior terminar.
+     * @param snapshotInterval intervalo entre snapshots automáticos; zero os desativa.
+     */
+    public static WriteAheadLogCategoryGateway open(
+            final Path directory,
+            final Duration durabilityWindow,
+            final Duration snapshotInterval
+    ) throws IOException {
+        Files.createDirectories(directory);
+
+        final var index = new InMemoryCategoryGateway();
+        final var firstGeneration = CategorySnapshotFile.read(directory.resolve(SNAPSHOT_FILE), index::restore);
+
+        final var segments = segments(directory);
+        var generation = firstGeneration;
+
+        for (final long segment : segments) {
+            if (segment < firstGeneration) {
+                Files.deleteIfExists(segmentPath(directory, segment));
+                continue;
+            }
+
+            generation = segment;
+            if (segment != segments.last()) {
+                CategoryWriteAheadLog.open(segmentPath(directory, segment), durabilityWindow, record -> replay(index, record)).close();
+            }
+        }
+
+        final var log = CategoryWriteAheadLog.open(segmentPath(directory, generation), durabilityWindow, record -> replay(index, record));
+        return new WriteAheadLogCategoryGateway(directory, durabilityWindow, index, log, generation, snapshotInterval);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var lock = lockFor(category.getId());
+        this.checkpointLock.readLock().lock();
+        lock.lock();
+        try {
+            this.log.ensureWritable();
+            final var created = this.index.prepareCreate(category);
+            await(this.log.append(CategoryLogRecords.upsert(List.of(created))));
+            this.index.restore(created);
+            return created;
+        } finally {
+            lock.unlock();
+            this.checkpointLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var locks = new TreeSet<Integer>();
+        categories.forEach(category -> locks.add(stripeOf(category.getId())));
+
+        this.checkpointLock.readLock().lock();
+        locks.forEach(stripe -> this.stripes[stripe].lock());
+        try {
+            this.log.ensureWritable();
+            final var created = this.index.prepareCreateAll(categories);
+            await(this.log.append(CategoryLogRecords.upsert(created)));
+            created.forEach(this.index::restore);
+            return created;
+        } finally {
+            locks.descendingSet().forEach(stripe -> this.stripes[stripe].unlock());
+            this.checkpointLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Category update(final Category category) {
+        final var lock = lockFor(category.getId());
+        this.checkpointLock.readLock().lock();
+        lock.lock();
+        try {
+            this.log.ensureWritable();
+            final var updated = this.index.prepareUpdate(category);
+            await(this.log.append(CategoryLogRecords.upsert(List.of(updated))));
+            this.index.restore(updated);
+            return updated;
+        } finally {
+            lock.unlock();
+            this.checkpointLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteById(final CategoryID id) {
+        final var lock = lockFor(id);
+        this.checkpointLock.readLock().lock();
+        lock.lock();
+        try {
+            this.log.ensureWritable();
+
+            if (this.index.findById(id).isEmpty()) {
+                return false;
+            }
+
+            await(this.log.append(CategoryLogRecords.delete(id)));
+            return this.index.deleteById(id);
+        } finally {
+            lock.unlock();
+            this.checkpointLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteById(final CategoryID id, final long expectedVersion) {
+        final var lock = lockFor(id);
+        this.checkpointLock.readLock().lock();
+        lock.lock();
+        try {
+            this.log.ensureWritable();
+
+            if (!this.index.prepareDelete(id, expectedVersion)) {
+                return false;
+            }
+
+            await(this.log.append(CategoryLogRecords.delete(id)));
+            return this.index.deleteById(id);
+        } finally {
+            lock.unlock();
+            this.checkpointLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.index.findById(id);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.index.findAll(query);
+    }
+
+    @Override
+    public CursorPagination<Category> findAll(final CategoryCursorQuery query) {
+        return this.index.findAll(query);
+    }
+
+    /**
+     * Grava um snapshot de todas as categorias e descarta os segmentos de log cobertos por ele.
+     * <p>
+     * As escritas ficam bloqueadas apenas enquanto o segmento atual é fechado e o próximo é
+     * aberto; as categorias são copiadas e gravadas em disco em paralelo com elas. A cópia pode
+     * incluir escritas já registradas no novo segmento, mas isso não muda o resultado: ao abrir,
+     * esse segmento é reproduzido sobre o snapshot, e cada registro grava o estado completo da
+     * categoria (ou a remove), então reaplicá-lo é idempotente.
+     */
+    public void snapshot() throws IOException {
+        this.snapshotLock.lock();
+        try {
+            final long covered;
+
+            this.checkpointLock.writeLock().lock();
+            try {
+                this.log.close();
+                covered = this.generation;
+                this.generation++;
+                this.log = CategoryWriteAheadLog.open(segmentPath(this.directory, this.generation), this.durabilityWindow, record -> {
+                });
+            } finally {
+                this.checkpointLock.writeLock().unlock();
+            }
+
+            CategorySnapshotFile.write(this.directory.resolve(SNAPSHOT_FILE), covered + 1, all());
+
+            for (final var segment : segments(this.directory)) {
+                if (segment <= covered) {
+                    Files.deleteIfExists(segmentPath(this.directory, segment));
+                }
+            }
+        } finally {
+            this.snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * Total de snapshots automáticos que falharam desde a abertura. O log continua garantindo a
+     * durabilidade e o próximo ciclo tenta novamente, mas a cauda a reproduzir cresce.
+     */
+    public long snapshotFailures() {
+        return this.snapshotFailures.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+
+        this.snapshotLock.lock();
+        try {
+            this.log.close();
+        } finally {
+            this.snapshotLock.unlock();
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (final IOException | RuntimeException ex) {
+            this.snapshotFailures.increment();
+            System.getLogger(WriteAheadLogCategoryGateway.class.getName())
+                    .log(System.Logger.Level.WARNING, "Falha ao gravar o snapshot de categorias", ex);
+        }
+    }
+
+    private List<Category> all() {
+        return this.index.streamAll(CategoryCursorQuery.first(SNAPSHOT_PAGE_SIZE, "", "createdAt", "asc")).toList();
+    }
+
+    CategoryWriteAheadLog currentLog() {
+        return this.log;
+    }
+
+    private ReentrantLock lockFor(final CategoryID id) {
+        return this.stripes[stripeOf(id)];
+    }
+
+    private static int stripeOf(final CategoryID id) {
+        return Math.floorMod(id.hashCode(), STRIPES);
+    }
+
+    private static void await(final CompletableFuture<Void> durable) {
+        try {
+            durable.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof IOException io) {
+                throw new UncheckedIOException(io);
+            }
+            throw ex;
+        }
+    }
+
+    private static TreeSet<Long> segments(final Path directory) throws IOException {
+        final var segments = new TreeSet<Long>();
+
+        try (final var files = Files.list(directory)) {
+            files.map(file -> SEGMENT.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .forEach(matcher -> segments.add(Long.parseLong(matcher.group(1))));
+        }
+
+        return segments;
+    }
+
+    static Path segmentPath(final Path directory, final long generation) {
+        return directory.resolve("categories-%016d.wal".formatted(generation));
+    }
+
+    private static void replay(final InMemoryCategoryGateway index, final ByteBuffer record) {
+        CategoryLogRecords.read(record, new CategoryLogRecords.Visitor() {
+            @Override
+            public void upsert(final Category category) {
+                index.restore(category);
+            }
+
+            @Override
+            public void delete(final CategoryID id) {
+                index.deleteById(id);
+            }
+        });
+    }
+}
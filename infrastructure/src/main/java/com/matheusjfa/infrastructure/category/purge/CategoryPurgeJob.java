@@ -0,0 +1,216 @@
+package com.matheusjfa.infrastructure.category.purge;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryCursorQuery;
+import com.matheusjfa.domain.category.CategoryGateway;
+import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.domain.exceptions.ConcurrencyConflictException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Remove definitivamente as categorias desativadas há mais tempo que o período de retenção.
+ * <p>
+ * Cada execução percorre apenas as categorias desativadas, em páginas, com
+ * {@link CategoryGateway#streamAll(CategoryCursorQuery)}, e remove as categorias expiradas
+ * em lotes de {@link CategoryPurgePolicy#batchSize()}. Cada lote é entregue ao {@code archive}
+ * (por exemplo, um arquivo NDJSON) antes de qualquer remoção: se o arquivamento falhar, nada
+ * do lote é removido e a execução termina com a exceção, sem remoções a desfazer nem eventos
+ * de remoção já publicados. Uma categoria arquivada que depois gera conflito de versão
+ * continua no gateway; o arquivo é uma cópia das expiradas, não o registro das remoções.
+ * <p>
+ * Para não afetar a latência das requisições, a limpeza roda em uma única thread de baixa
+ * prioridade, respeita {@link CategoryPurgePolicy#maxDeletionsPerSecond()} e remove cada
+ * categoria com {@link CategoryGateway#deleteById(CategoryID, long)}, que só disputa o lock
+ * do próprio ID. Uma categoria alterada desde a leitura (reativada, por exemplo) gera
+ * conflito de versão e é mantida; a próxima execução a avalia novamente.
+ */
+public class CategoryPurgeJob implements AutoCloseable {
+
+    private static final CategoryCursorQuery INACTIVE_SCAN = CategoryCursorQuery.first(CategoryGateway.SCAN_BATCH_SIZE, "", "createdAt", "asc", false);
+
+    private final CategoryGateway gateway;
+    private final CategoryPurgePolicy policy;
+    private final Consumer<List<Category>> archive;
+    private final Clock clock;
+    private final long nanosPerDeletion;
+    private final ReentrantLock runLock;
+    private final ScheduledExecutorService scheduler;
+
+    private final LongAdder purged;
+    private final LongAdder conflicts;
+    private final LongAdder failures;
+
+    private volatile boolean closed;
+
+    public CategoryPurgeJob(final CategoryGateway gateway, final CategoryPurgePolicy policy) {
+        this(gateway, policy, batch -> {
+        });
+    }
+
+    public CategoryPurgeJob(
+            final CategoryGateway gateway,
+            final CategoryPurgePolicy policy,
+            final Consumer<List<Category>> archive
+    ) {
+        this(gateway, policy, archive, Clock.systemUTC());
+    }
+
+    CategoryPurgeJob(
+            final CategoryGateway gateway,
+            final CategoryPurgePolicy policy,
+            final Consumer<List<Category>> archive,
+            final Clock clock
+    ) {
+        this.gateway = Objects.requireNonNull(gateway);
+        this.policy = Objects.requireNonNull(policy);
+        this.archive = Objects.requireNonNull(archive);
+        this.clock = Objects.requireNonNull(clock);
+        this.nanosPerDeletion = TimeUnit.SECONDS.toNanos(1) / policy.maxDeletionsPerSecond();
+        this.runLock = new ReentrantLock();
+        this.purged = new LongAdder();
+        this.conflicts = new LongAdder();
+        this.failures = new LongAdder();
+
+        final var interval = policy.interval();
+
+        if (interval.isZero() || interval.isNegative()) {
+            this.scheduler = null;
+        } else {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final var thread = new Thread(runnable, "category-purge");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+
+            final var period = interval.toMillis();
+            this.scheduler.scheduleWithFixedDelay(this::purgeQuietly, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Executa uma limpeza completa e retorna quantas categorias foram removidas. Execuções
+     * concorrentes (manual e agendada) são serializadas.
+     */
+    public long purge() {
+        this.runLock.lock();
+        try {
+            final var cutoff = this.clock.instant().minus(this.policy.retention());
+            final var batch = new ArrayList<Category>(this.policy.batchSize());
+            var removed = 0L;
+            var deadline = System.nanoTime();
+
+            try (final var scan = this.gateway.streamAll(INACTIVE_SCAN)) {
+                final var expired = scan.filter(category -> isExpired(category, cutoff)).iterator();
+
+                while (expired.hasNext() && !stopped()) {
+                    batch.add(expired.next());
+
+                    if (batch.size() == this.policy.batchSize() || !expired.hasNext()) {
+                        removed += purgeBatch(batch);
+                        deadline = pace(deadline, batch.size());
+                        batch.clear();
+                    }
+                }
+            }
+
+            return removed;
+        } finally {
+            this.runLock.unlock();
+        }
+    }
+
+    /**
+     * Total de categorias removidas desde a criação do job.
+     */
+    public long purged() {
+        return this.purged.sum();
+    }
+
+    /**
+     * Total de categorias mantidas por terem sido alteradas entre a leitura e a remoção.
+     */
+    public long conflicts() {
+        return this.conflicts.sum();
+    }
+
+    /**
+     * Total de execuções agendadas que terminaram com exceção, como uma falha de arquivamento.
+     */
+    public long failures() {
+        return this.failures.sum();
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+
+        if (this.scheduler != null) {
+            this.scheduler.shutdownNow();
+        }
+    }
+
+    private void purgeQuietly() {
+        try {
+            purge();
+        } catch (final RuntimeException ex) {
+            // A próxima execução tenta novamente; as categorias não removidas continuam expiradas.
+            this.failures.increment();
+        }
+    }
+
+    private long purgeBatch(final List<Category> batch) {
+        this.archive.accept(List.copyOf(batch));
+
+        var removed = 0L;
+
+        for (final var category : batch) {
+            try {
+                if (this.gateway.deleteById(category.getId(), category.getVersion())) {
+                    removed++;
+                }
+            } catch (final ConcurrencyConflictException ex) {
+                this.conflicts.increment();
+            }
+        }
+
+        this.purged.add(removed);
+        return removed;
+    }
+
+    /**
+     * Espera o tempo correspondente a {@code deletions} remoções no ritmo configurado e retorna
+     * o próximo prazo. Um atraso acumulado (lote mais lento que o limite) não vira rajada: o
+     * prazo recomeça a partir de agora.
+     */
+    private long pace(final long deadline, final int deletions) {
+        final var next = Math.max(deadline, System.nanoTime()) + deletions * this.nanosPerDeletion;
+
+        long remaining;
+        while ((remaining = next - System.nanoTime()) > 0 && !stopped()) {
+            LockSupport.parkNanos(remaining);
+        }
+
+        return next;
+    }
+
+    private boolean stopped() {
+        return this.closed || Thread.currentThread().isInterrupted();
+    }
+
+    private static boolean isExpired(final Category category, final Instant cutoff) {
+        return !category.isActive() && category.getDeletedAt() != null && category.getDeletedAt().isBefore(cutoff);
+    }
+}
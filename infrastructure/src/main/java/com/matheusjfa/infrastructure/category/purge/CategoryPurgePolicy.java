@@ -0,0 +1,41 @@
+package com.matheusjfa.infrastructure.category.purge;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configuração do {@link CategoryPurgeJob}.
+ *
+ * @param retention             por quanto tempo uma categoria desativada é mantida, contado a
+ *                              partir de {@code deletedAt}.
+ * @param batchSize             quantas categorias são removidas (e arquivadas) de cada vez.
+ * @param maxDeletionsPerSecond limite de remoções por segundo, para que a limpeza não dispute
+ *                              o gateway com as requisições.
+ * @param interval              intervalo entre execuções automáticas; zero as desativa.
+ */
+public record CategoryPurgePolicy(
+        Duration retention,
+        int batchSize,
+        int maxDeletionsPerSecond,
+        Duration interval
+) {
+
+    private static final CategoryPurgePolicy DEFAULT = new CategoryPurgePolicy(Duration.ofDays(30), 100, 500, Duration.ofHours(1));
+
+    public CategoryPurgePolicy {
+        Objects.requireNonNull(retention, "O período de retenção não pode ser nulo");
+        Objects.requireNonNull(interval, "O intervalo não pode ser nulo");
+
+        if (retention.isNegative() || batchSize <= 0 || maxDeletionsPerSecond <= 0) {
+            throw new IllegalArgumentException("A retenção não pode ser negativa e o lote e o limite de remoções devem ser positivos");
+        }
+    }
+
+    public static CategoryPurgePolicy defaults() {
+        return DEFAULT;
+    }
+
+    public CategoryPurgePolicy withRetention(final Duration retention) {
+        return new CategoryPurgePolicy(retention, this.batchSize, this.maxDeletionsPerSecond, this.interval);
+    }
+}
@@ -0,0 +1,268 @@
+package com.matheusjfa.infrastructure.events;
+
+import com.matheusjfa.domain.events.DomainEvent;
+import com.matheusjfa.domain.events.DomainEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * {@link DomainEventPublisher} baseado em um ring buffer limitado, com um produtor e vários
+ * consumidores.
+ * <p>
+ * Cada assinante roda em sua própria thread e recebe todos os eventos, em ordem de
+ * publicação, em lotes de até {@code maxBatchSize}: o que se acumulou enquanto o lote
+ * anterior era processado é entregue de uma vez. O produtor grava direto nas posições do
+ * buffer e publica o avanço de sequência uma vez por lote; publicações concorrentes são
+ * serializadas por um lock curto, então o buffer tem sempre um único produtor. Cada posição é
+ * limpa pelo último assinante a consumi-la, para que o buffer não retenha eventos já entregues.
+ * <p>
+ * Quando o assinante mais lento está {@code capacity} eventos atrás, {@link #publish(List)}
+ * espera até que ele avance (backpressure), em vez de descartar eventos ou crescer sem limite.
+ * A espera acontece fora do lock; por isso uma publicação maior que o espaço livre pode ser
+ * intercalada com a de outra thread, sempre mantendo a ordem dos eventos de cada chamada.
+ * <p>
+ * Um assinante sem eventos a consumir fica estacionado até a próxima publicação, que o acorda;
+ * assinantes ociosos não consomem CPU.
+ */
+public class RingBufferEventDispatcher implements DomainEventPublisher, AutoCloseable {
+
+    private static final long BACKPRESSURE_PARK_NANOS = 100_000L;
+
+    private final DomainEvent[] slots;
+    // Quantos assinantes ainda não consumiram cada posição; quem a zera limpa a posição.
+    private final AtomicIntegerArray readers;
+    private final int mask;
+    private final int maxBatchSize;
+    private final AtomicLong cursor;
+    private final ReentrantLock producerLock;
+    private final List<Subscriber> subscribers;
+    private final LongAdder handlerFailures;
+
+    private volatile boolean closed;
+
+    /**
+     * @param capacity     número de posições do buffer; arredondado para a próxima potência de dois.
+     * @param maxBatchSize maior número de eventos entregue a um assinante de uma só vez.
+     * @param handlers     assinantes; cada um recebe todos os eventos, em uma thread própria.
+     */
+    public RingBufferEventDispatcher(
+            final int capacity,
+            final int maxBatchSize,
+            final List<Consumer<List<DomainEvent>>> handlers
+    ) {
+        if (capacity <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("A capacidade e o tamanho do lote devem ser positivos");
+        }
+
+        final var size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+
+        this.slots = new DomainEvent[size];
+        this.readers = new AtomicIntegerArray(size);
+        this.mask = size - 1;
+        this.maxBatchSize = maxBatchSize;
+        this.cursor = new AtomicLong(-1L);
+        this.producerLock = new ReentrantLock();
+        this.handlerFailures = new LongAdder();
+        this.subscribers = new ArrayList<>(handlers.size());
+
+        for (int i = 0; i < handlers.size(); i++) {
+            this.subscribers.add(new Subscriber(Objects.requireNonNull(handlers.get(i)), "domain-events-" + (i + 1)));
+        }
+
+        this.subscribers.forEach(subscriber -> subscriber.thread.start());
+    }
+
+    @Override
+    public void publish(final List<? extends DomainEvent> events) {
+        var published = 0;
+
+        while (published < events.size()) {
+            awaitCapacity();
+
+            this.producerLock.lock();
+            try {
+                ensureOpen();
+
+                // Outro produtor pode ter ocupado o espaço livre entre a espera e o lock; nesse
+                // caso nada é gravado e a espera recomeça.
+                var sequence = this.cursor.get();
+                final var limit = slowestSubscriber() + this.slots.length;
+
+                while (published < events.size() && sequence < limit) {
+                    final var index = (int) ++sequence & this.mask;
+                    this.readers.set(index, this.subscribers.size());
+                    this.slots[index] = events.get(published++);
+                }
+
+                this.cursor.set(sequence);
+            } finally {
+                this.producerLock.unlock();
+            }
+
+            wakeIdleSubscribers();
+        }
+    }
+
+    /**
+     * Número de lotes em que um assinante lançou exceção ou erro. O assinante continua
+     * recebendo os lotes seguintes.
+     */
+    public long handlerFailures() {
+        return this.handlerFailures.sum();
+    }
+
+    /**
+     * Recusa novas publicações, espera os assinantes consumirem o que já foi publicado e
+     * encerra suas threads. Se a thread que fecha for interrompida, retorna sem esperar e com a
+     * interrupção restaurada.
+     */
+    @Override
+    public void close() {
+        this.producerLock.lock();
+        try {
+            this.closed = true;
+        } finally {
+            this.producerLock.unlock();
+        }
+
+        this.subscribers.forEach(subscriber -> LockSupport.unpark(subscriber.thread));
+
+        try {
+            for (final var subscriber : this.subscribers) {
+                subscriber.thread.join();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Espera, sem segurar o lock do produtor, até que haja ao menos uma posição livre no buffer.
+     */
+    private void awaitCapacity() {
+        while (true) {
+            ensureOpen();
+
+            if (this.cursor.get() < slowestSubscriber() + this.slots.length) {
+                return;
+            }
+
+            LockSupport.parkNanos(BACKPRESSURE_PARK_NANOS);
+        }
+    }
+
+    private void ensureOpen() {
+        if (this.closed) {
+            throw new IllegalStateException("O despachante de eventos está fechado");
+        }
+    }
+
+    /**
+     * Acorda os assinantes estacionados por falta de eventos. Como o assinante marca
+     * {@code idle} antes de reler o cursor, e o cursor é gravado antes desta leitura, ou ele vê
+     * a nova sequência ou é acordado aqui.
+     */
+    private void wakeIdleSubscribers() {
+        for (final var subscriber : this.subscribers) {
+            if (subscriber.idle) {
+                LockSupport.unpark(subscriber.thread);
+            }
+        }
+    }
+
+    private long slowestSubscriber() {
+        var slowest = this.cursor.get();
+        for (final var subscriber : this.subscribers) {
+            slowest = Math.min(slowest, subscriber.sequence.get());
+        }
+        return slowest;
+    }
+
+    private final class Subscriber implements Runnable {
+        private final Consumer<List<DomainEvent>> handler;
+        private final AtomicLong sequence;
+        private final Thread thread;
+
+        private volatile boolean idle;
+
+        private Subscriber(final Consumer<List<DomainEvent>> handler, final String name) {
+            this.handler = handler;
+            this.sequence = new AtomicLong(-1L);
+            this.thread = new Thread(this, name);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                consume();
+            } finally {
+                // Um assinante encerrado, mesmo por uma falha fora do handler, deixa de segurar o
+                // produtor; senão publish esperaria para sempre por ele.
+                this.sequence.set(Long.MAX_VALUE);
+            }
+        }
+
+        private void consume() {
+            var next = this.sequence.get() + 1;
+
+            while (true) {
+                final var available = cursor.get();
+
+                if (available < next) {
+                    this.idle = true;
+
+                    // Fechado e sem nada publicado depois da última leitura: não há mais o que consumir.
+                    if (closed && cursor.get() < next) {
+                        return;
+                    }
+
+                    if (cursor.get() < next) {
+                        LockSupport.park(this);
+                    }
+
+                    this.idle = false;
+                    continue;
+                }
+
+                final var end = Math.min(available, next + maxBatchSize - 1);
+                final var batch = new ArrayList<DomainEvent>((int) (end - next + 1));
+
+                for (var position = next; position <= end; position++) {
+                    batch.add(slots[(int) position & mask]);
+                }
+
+                try {
+                    this.handler.accept(batch);
+                } catch (final Throwable ex) {
+                    handlerFailures.increment();
+                }
+
+                release(next, end);
+                this.sequence.set(end);
+                next = end + 1;
+            }
+        }
+
+        /**
+         * Limpa as posições consumidas por todos os assinantes. Acontece antes de avançar
+         * {@code sequence}, então o produtor nunca regrava uma posição que ainda será limpa.
+         */
+        private void release(final long from, final long to) {
+            for (var position = from; position <= to; position++) {
+                final var index = (int) position & mask;
+                if (readers.decrementAndGet(index) == 0) {
+                    slots[index] = null;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.matheusjfa.infrastructure.category;
+
+import com.matheusjfa.domain.exceptions.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryQueryPlannerTest {
+
+    @Test
+    @DisplayName("Dado a mesma forma de consulta com termos diferentes, quando planejar, deve reutilizar a ordenação compilada e separar os termos de cada consulta")
+    public void givenTheSameQueryShapeWithDifferentTerms_whenPlanning_thenShouldReuseTheOrderingAndTokenizeEachQuery() {
+        final var planner = new CategoryQueryPlanner();
+
+        final var first = planner.plan("Ação  Filmes", "updatedAt", "DESC", true);
+        final var second = planner.plan("Séries", "updatedAt", "DESC", true);
+
+        assertSame(first.comparator(), second.comparator());
+        assertEquals(CategoryQueryPlan.Access.TERM_SEARCH, first.access());
+        assertEquals(CategorySortField.UPDATED_AT, first.field());
+        assertFalse(first.ascending());
+        assertEquals(Set.of("acao", "filmes"), first.tokens());
+        assertEquals(Set.of("series"), second.tokens());
+        assertEquals(1, planner.size());
+    }
+
+    @Test
+    @DisplayName("Dado consultas sem termos, quando planejar, deve escolher o índice de ordenação ou a varredura completa conforme o campo")
+    public void givenQueriesWithoutTerms_whenPlanning_thenShouldChooseTheSortIndexOrAFullScanByField() {
+        final var planner = new CategoryQueryPlanner();
+
+        final var byName = planner.plan("  ", null, null, null);
+        final var byDescription = planner.plan("", "description", "asc", false);
+
+        assertEquals(CategoryQueryPlan.Access.INDEX_SCAN, byName.access());
+        assertEquals(CategorySortField.NAME, byName.field());
+        assertTrue(byName.ascending());
+        assertEquals(CategoryQueryPlan.Access.FULL_SCAN, byDescription.access());
+        assertNull(byDescription.field());
+    }
+
+    @Test
+    @DisplayName("Dado termos só com pontuação, quando planejar, deve tratar a consulta como sem termos")
+    public void givenTermsWithOnlyPunctuation_whenPlanning_thenShouldPlanItAsAQueryWithoutTerms() {
+        final var planner = new CategoryQueryPlanner();
+
+        final var dashes = planner.plan("--", "name", "asc", null);
+        final var bangs = planner.plan(" !! ", "description", "asc", null);
+
+        assertEquals(CategoryQueryPlan.Access.INDEX_SCAN, dashes.access());
+        assertTrue(dashes.tokens().isEmpty());
+        assertEquals(CategoryQueryPlan.Access.FULL_SCAN, bangs.access());
+        assertTrue(bangs.tokens().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado um campo de ordenação desconhecido, quando planejar, deve rejeitar a consulta sem guardá-la em cache")
+    public void givenAnUnknownSortField_whenPlanning_thenShouldRejectTheQueryWithoutCachingIt() {
+        final var planner = new CategoryQueryPlanner();
+
+        final var ex = assertThrows(DomainException.class, () -> planner.plan("", "popularity", "asc", null));
+
+        assertEquals("Campo de ordenação inválido: popularity", ex.getMessage());
+        assertEquals(0, planner.size());
+    }
+}
@@ -0,0 +1,31 @@
+package com.matheusjfa.infrastructure.category;
+
+import com.matheusjfa.domain.category.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryTermIndexTest {
+
+    @Test
+    @DisplayName("Dado categorias renomeadas ou removidas, quando atualizar o índice, os tokens sem IDs devem ser removidos")
+    public void givenRenamedOrRemovedCategories_whenUpdatingTheIndex_thenTokensWithoutIdsShouldBeRemoved() {
+        final var index = new CategoryTermIndex();
+        final var movies = Category.create("Filmes antigos", null, true);
+        final var series = Category.create("Séries antigas", null, true);
+
+        index.index(movies);
+        index.index(series);
+        assertEquals(4, index.tokenCount());
+
+        index.index(movies.update("Filmes", null, true));
+        index.remove(series.getId());
+
+        assertEquals(1, index.tokenCount());
+        assertEquals(Set.of(movies.getId()), index.search("fil"));
+        assertTrue(index.search("antig").isEmpty());
+    }
+}
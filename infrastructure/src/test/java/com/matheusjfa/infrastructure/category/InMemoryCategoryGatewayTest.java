@@ -0,0 +1,392 @@
+package com.matheusjfa.infrastructure.category;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryCursorQuery;
+import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.domain.category.CategorySearchQuery;
+import com.matheusjfa.domain.exceptions.ConcurrencyConflictException;
+import com.matheusjfa.domain.pagination.CursorPagination;
+import com.matheusjfa.domain.exceptions.DomainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryCategoryGatewayTest {
+
+    @Test
+    @DisplayName("Dado uma categoria válida, quando chamar o método 'create', deve ser possível encontrá-la pelo ID")
+    public void givenAValidCategory_whenCallingCreate_thenShouldBeFoundById() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var category = Category.create("Filmes", "Filmes em geral", true);
+
+        gateway.create(category);
+        final var found = gateway.findById(category.getId()).orElseThrow();
+
+        assertEquals(category.getId(), found.getId());
+        assertEquals("Filmes", found.getName());
+        assertEquals("Filmes em geral", found.getDescription());
+        assertTrue(found.isActive());
+    }
+
+    @Test
+    @DisplayName("Dado uma categoria gravada, quando chamar o método 'findById' várias vezes, deve entregar o mesmo snapshot imutável")
+    public void givenAStoredCategory_whenCallingFindByIdRepeatedly_thenShouldShareTheSameFrozenSnapshot() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var category = Category.create("Filmes", null, true);
+        gateway.create(category);
+
+        final var first = gateway.findById(category.getId()).orElseThrow();
+        final var second = gateway.findById(category.getId()).orElseThrow();
+
+        assertSame(first, second);
+        assertTrue(first.getEvents().isEmpty());
+
+        category.update("Alterada fora do gateway", null, false);
+        first.update("Alterada pelo leitor", null, false);
+
+        assertEquals("Filmes", gateway.findById(category.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("Dado uma categoria já criada, quando chamar o método 'create' com o mesmo ID, deve lançar uma exceção")
+    public void givenAnExistingCategory_whenCallingCreateAgain_thenShouldThrowAnException() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var category = Category.create("Filmes", null, true);
+        gateway.create(category);
+
+        final var exception = assertThrows(DomainException.class, () -> gateway.create(category));
+
+        final var expectedMessage = "Já existe uma categoria com o ID %s".formatted(category.getId().getValue());
+        assertEquals(expectedMessage, exception.getErrors().get(0).message());
+    }
+
+    @Test
+    @DisplayName("Dado um lote com um ID repetido, quando chamar o método 'createAll', nenhuma categoria do lote deve ser gravada")
+    public void givenABatchWithADuplicateId_whenCallingCreateAll_thenNoCategoryShouldBeStored() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var existing = gateway.create(Category.create("Filmes", null, true));
+        final var fresh = Category.create("Séries", null, true);
+
+        assertThrows(DomainException.class, () -> gateway.createAll(List.of(fresh, existing)));
+
+        assertTrue(gateway.findById(fresh.getId()).isEmpty());
+        assertTrue(gateway.findById(existing.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Dado uma categoria do lote alterada por outra escrita, quando o 'createAll' for desfeito, ela deve ser mantida")
+    public void givenABatchCategoryChangedByAnotherWrite_whenCreateAllIsRolledBack_thenItShouldBeKept() {
+        final var fresh = Category.create("Séries", null, true);
+        final var gateway = new InMemoryCategoryGateway() {
+            @Override
+            Category insert(final Category category, final CategoryTermIndex.Batch terms) {
+                if (category != fresh) {
+                    // Outra escrita altera a categoria já inserida antes de o lote falhar.
+                    update(findById(fresh.getId()).orElseThrow().update("Séries de TV", null, true));
+                }
+                return super.insert(category, terms);
+            }
+        };
+        final var existing = Category.create("Filmes", null, true);
+        gateway.restore(existing);
+
+        assertThrows(DomainException.class, () -> gateway.createAll(List.of(fresh, existing)));
+
+        assertEquals("Séries de TV", gateway.findById(fresh.getId()).orElseThrow().getName());
+        // "séries" está nas duas versões: só a ligação do lote o indexa; "tv" vem da alteração.
+        assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, "series", "name", "asc")).total());
+        assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, "tv", "name", "asc")).total());
+    }
+
+    @Test
+    @DisplayName("Dado uma categoria inexistente, quando chamar o método 'update', deve lançar uma exceção")
+    public void givenAMissingCategory_whenCallingUpdate_thenShouldThrowAnException() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var category = Category.create("Filmes", null, true);
+
+        assertThrows(DomainException.class, () -> gateway.update(category));
+        assertTrue(gateway.findById(category.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado duas cópias da mesma versão, quando ambas chamarem o método 'update', a segunda deve falhar por conflito")
+    public void givenTwoCopiesOfTheSameVersion_whenBothCallUpdate_thenTheSecondShouldConflict() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var created = gateway.create(Category.create("Filmes", null, true));
+
+        final var first = gateway.findById(created.getId()).orElseThrow();
+        final var second = gateway.findById(created.getId()).orElseThrow();
+
+        final var updated = gateway.update(first.update("Séries", null, true));
+
+        assertEquals(1, updated.getVersion());
+        assertThrows(ConcurrencyConflictException.class, () -> gateway.update(second.update("Documentários", null, true)));
+
+        final var stored = gateway.findById(created.getId()).orElseThrow();
+        assertEquals("Séries", stored.getName());
+        assertEquals(1, stored.getVersion());
+    }
+
+    @Test
+    @DisplayName("Dado uma categoria existente, quando chamar o método 'deleteById', ela não deve mais ser encontrada")
+    public void givenAnExistingCategory_whenCallingDeleteById_thenShouldNotBeFound() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var category = gateway.create(Category.create("Filmes", null, true));
+
+        gateway.deleteById(category.getId());
+
+        assertTrue(gateway.findById(category.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado uma categoria alterada depois de lida, quando chamar 'deleteById' com a versão lida, deve falhar por conflito e mantê-la")
+    public void givenACategoryChangedAfterRead_whenCallingDeleteByIdWithTheReadVersion_thenShouldConflictAndKeepIt() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var read = gateway.create(Category.create("Filmes", null, false));
+        final var reactivated = gateway.update(read.activate());
+
+        assertThrows(ConcurrencyConflictException.class, () -> gateway.deleteById(read.getId(), read.getVersion()));
+        assertTrue(gateway.findById(read.getId()).orElseThrow().isActive());
+
+        gateway.deleteById(read.getId(), reactivated.getVersion());
+        gateway.deleteById(read.getId(), reactivated.getVersion());
+
+        assertTrue(gateway.findById(read.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado várias categorias, quando chamar o método 'findAll' com termos, deve filtrar, ordenar e paginar")
+    public void givenManyCategories_whenCallingFindAllWithTerms_thenShouldFilterSortAndPaginate() {
+        final var gateway = new InMemoryCategoryGateway();
+        gateway.create(Category.create("Documentários", "Filmes reais", true));
+        gateway.create(Category.create("Ação", "Filmes de ação", true));
+        gateway.create(Category.create("Séries", "Episódios", true));
+        gateway.create(Category.create("Comédia", "Filmes de humor", true));
+
+        final var firstPage = gateway.findAll(new CategorySearchQuery(0, 2, "filmes", "name", "asc"));
+        final var secondPage = gateway.findAll(new CategorySearchQuery(1, 2, "filmes", "name", "asc"));
+
+        assertEquals(3, firstPage.total());
+        assertEquals(List.of("Ação", "Comédia"), names(firstPage.items()));
+        assertEquals(List.of("Documentários"), names(secondPage.items()));
+    }
+
+    @Test
+    @DisplayName("Dado categorias ativas e desativadas, quando chamar 'findAll' filtrando por estado e ordenando por data, deve paginar pelo índice do estado")
+    public void givenActiveAndInactiveCategories_whenCallingFindAllFilteredByStateAndSortedByDate_thenShouldPageTheStateIndex() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var start = Instant.parse("2024-01-01T00:00:00Z");
+        final var names = List.of("Ação", "Drama", "Terror", "Comédia", "Animação");
+
+        for (int i = 0; i < names.size(); i++) {
+            final var at = start.plusSeconds(i);
+            gateway.create(Category.with(CategoryID.generate(), names.get(i), null, i % 2 == 0, at, at, i % 2 == 0 ? null : at));
+        }
+
+        final var comedia = gateway.findAll(new CategorySearchQuery(0, 1, "comédia", "name", "asc")).items().iterator().next();
+        gateway.update(comedia.activate());
+
+        final var firstPage = gateway.findAll(new CategorySearchQuery(0, 2, "", "updatedAt", "desc", true));
+        final var secondPage = gateway.findAll(new CategorySearchQuery(1, 2, "", "updatedAt", "desc", true));
+        final var inactive = gateway.findAll(new CategorySearchQuery(0, 10, "", "createdAt", "asc", false));
+        final var cursorPage = gateway.findAll(CategoryCursorQuery.first(3, "", "updatedAt", "desc", true));
+
+        assertEquals(4, firstPage.total());
+        assertEquals(List.of("Comédia", "Animação"), names(firstPage.items()));
+        assertEquals(List.of("Terror", "Ação"), names(secondPage.items()));
+        assertEquals(1, inactive.total());
+        assertEquals(List.of("Drama"), names(inactive.items()));
+        assertEquals(List.of("Comédia", "Animação", "Terror"), names(cursorPage.items()));
+        assertEquals(List.of("Ação"), names(gateway.findAll(CategoryCursorQuery.first(3, "", "updatedAt", "desc", true).next(cursorPage.nextCursor())).items()));
+        assertEquals(5, gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).total());
+
+        final var allFirst = gateway.findAll(CategoryCursorQuery.first(3, "", "createdAt", "asc"));
+        final var allSecond = gateway.findAll(CategoryCursorQuery.first(3, "", "createdAt", "asc").next(allFirst.nextCursor()));
+        assertEquals(List.of("Ação", "Drama", "Terror"), names(allFirst.items()));
+        assertEquals(List.of("Comédia", "Animação"), names(allSecond.items()));
+        assertEquals(List.of("Animação", "Comédia", "Terror", "Drama", "Ação"), names(gateway.findAll(new CategorySearchQuery(0, 10, "", "createdAt", "desc")).items()));
+    }
+
+    @Test
+    @DisplayName("Dado um termo parcial, quando chamar o método 'findAll', deve casar por prefixo de todas as palavras")
+    public void givenAPartialTerm_whenCallingFindAll_thenShouldMatchByPrefixOfEveryWord() {
+        final var gateway = new InMemoryCategoryGateway();
+        gateway.create(Category.create("Ficção Científica", "Filmes de ficção", true));
+        gateway.create(Category.create("Fantasia", "Filmes de fantasia", true));
+
+        final var page = gateway.findAll(new CategorySearchQuery(0, 10, "fil fic", "name", "asc"));
+
+        assertEquals(List.of("Ficção Científica"), names(page.items()));
+    }
+
+    @Test
+    @DisplayName("Dado um termo sem acentos, quando chamar o método 'findAll', deve encontrar nomes acentuados")
+    public void givenATermWithoutAccents_whenCallingFindAll_thenShouldMatchAccentedNames() {
+        final var gateway = new InMemoryCategoryGateway();
+        gateway.create(Category.create("Ação", "Filmes de AÇÃO e aventura", true));
+        gateway.create(Category.create("Animação", null, true));
+
+        final var byName = gateway.findAll(new CategorySearchQuery(0, 10, "acao", "name", "asc"));
+        final var byUpperCase = gateway.findAll(new CategorySearchQuery(0, 10, "ANIMAÇAO", "name", "asc"));
+
+        assertEquals(List.of("Ação"), names(byName.items()));
+        assertEquals(List.of("Animação"), names(byUpperCase.items()));
+    }
+
+    @Test
+    @DisplayName("Dado uma categoria atualizada ou removida, quando chamar o método 'findAll', o índice de termos deve refletir a mudança")
+    public void givenAnUpdatedOrDeletedCategory_whenCallingFindAll_thenTermIndexShouldReflectTheChange() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var drama = gateway.create(Category.create("Drama", null, true));
+        final var terror = gateway.create(Category.create("Terror", null, true));
+
+        gateway.update(drama.update("Suspense", null, true));
+        gateway.deleteById(terror.getId());
+
+        assertEquals(0, gateway.findAll(new CategorySearchQuery(0, 10, "drama", "name", "asc")).total());
+        assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, "suspense", "name", "asc")).total());
+        assertEquals(0, gateway.findAll(new CategorySearchQuery(0, 10, "terror", "name", "asc")).total());
+    }
+
+    @Test
+    @DisplayName("Dado um campo de ordenação desconhecido, quando chamar o método 'findAll', deve lançar uma exceção")
+    public void givenAnUnknownSortField_whenCallingFindAll_thenShouldThrowAnException() {
+        final var gateway = new InMemoryCategoryGateway();
+        gateway.create(Category.create("Filmes", null, true));
+
+        assertThrows(DomainException.class, () -> gateway.findAll(new CategorySearchQuery(0, 10, "", "unknown", "asc")));
+    }
+
+    @Test
+    @DisplayName("Dado várias categorias, quando paginar por cursor, deve percorrer todas sem repetir nem pular")
+    public void givenManyCategories_whenPagingByCursor_thenShouldVisitAllWithoutDuplicatesOrGaps() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var expectedNames = new ArrayList<String>();
+        for (int i = 0; i < 25; i++) {
+            final var name = "Categoria %02d".formatted(i);
+            gateway.create(Category.create(name, null, true));
+            expectedNames.add(name);
+        }
+
+        final var visited = new ArrayList<String>();
+        var query = CategoryCursorQuery.first(10, "", "name", "asc");
+        while (true) {
+            final var page = gateway.findAll(query);
+            visited.addAll(names(page.items()));
+
+            if (!page.hasNext()) {
+                break;
+            }
+
+            // Inserções concorrentes antes do cursor não podem deslocar as próximas páginas.
+            gateway.create(Category.create("Aaa inserida", null, true));
+            query = query.next(page.nextCursor());
+        }
+
+        assertEquals(expectedNames, visited);
+    }
+
+    @Test
+    @DisplayName("Dado um cursor com termos e direção descendente, quando paginar, deve retornar as categorias na ordem inversa")
+    public void givenTermsAndDescendingDirection_whenPagingByCursor_thenShouldReturnReversedOrder() {
+        final var gateway = new InMemoryCategoryGateway();
+        gateway.create(Category.create("Filmes A", null, true));
+        gateway.create(Category.create("Filmes B", null, true));
+        gateway.create(Category.create("Filmes C", null, true));
+        gateway.create(Category.create("Séries", null, true));
+
+        final var first = gateway.findAll(CategoryCursorQuery.first(2, "filmes", "name", "desc"));
+        final var second = gateway.findAll(CategoryCursorQuery.first(2, "filmes", "name", "desc").next(first.nextCursor()));
+
+        assertEquals(List.of("Filmes C", "Filmes B"), names(first.items()));
+        assertEquals(List.of("Filmes A"), names(second.items()));
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    @DisplayName("Dado um cursor gerado para outro campo de ordenação, quando paginar, deve lançar uma exceção")
+    public void givenACursorFromAnotherSortField_whenPagingByCursor_thenShouldThrowAnException() {
+        final var gateway = new InMemoryCategoryGateway();
+        gateway.create(Category.create("Filmes A", null, true));
+        gateway.create(Category.create("Filmes B", null, true));
+
+        final var page = gateway.findAll(CategoryCursorQuery.first(1, "", "name", "asc"));
+
+        assertThrows(DomainException.class, () -> gateway.findAll(CategoryCursorQuery.first(1, "", "createdAt", "asc").next(page.nextCursor())));
+    }
+
+    @Test
+    @DisplayName("Dado várias threads escrevendo e lendo, quando todas terminarem, nenhuma escrita deve ser perdida")
+    public void givenConcurrentWriters_whenAllFinish_thenNoWriteShouldBeLost() throws Exception {
+        final var gateway = new InMemoryCategoryGateway();
+        final var threads = 8;
+        final var perThread = 500;
+        final var executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            final var tasks = new ArrayList<Callable<Void>>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        final var created = gateway.create(Category.create("Categoria " + i, null, true));
+                        gateway.update(created.update("Categoria atualizada " + i, null, true));
+                        gateway.findById(created.getId()).orElseThrow();
+                    }
+                    return null;
+                });
+            }
+
+            for (final Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final var all = gateway.findAll(new CategorySearchQuery(0, 1, "atualizada", "name", "asc"));
+        assertEquals(threads * perThread, all.total());
+    }
+
+    @Test
+    @DisplayName("Dado um catálogo com várias páginas, quando chamar o método 'streamAll', deve buscar os lotes sob demanda")
+    public void givenACatalogueWithManyPages_whenCallingStreamAll_thenShouldFetchBatchesOnDemand() {
+        final var pagesFetched = new AtomicInteger();
+        final var gateway = new InMemoryCategoryGateway() {
+            @Override
+            public CursorPagination<Category> findAll(final CategoryCursorQuery query) {
+                pagesFetched.incrementAndGet();
+                return super.findAll(query);
+            }
+        };
+
+        for (final var name : List.of("Ação", "Comédia", "Drama", "Suspense", "Terror")) {
+            gateway.create(Category.create(name, null, true));
+        }
+
+        final var firstBatch = CategoryCursorQuery.first(2, "", "name", "asc");
+
+        assertEquals(List.of("Ação"), gateway.streamAll(firstBatch).limit(1).map(Category::getName).toList());
+        assertEquals(1, pagesFetched.get());
+
+        pagesFetched.set(0);
+        final var all = gateway.streamAll(firstBatch).map(Category::getName).toList();
+
+        assertEquals(List.of("Ação", "Comédia", "Drama", "Suspense", "Terror"), all);
+        assertEquals(3, pagesFetched.get());
+    }
+
+    private static List<String> names(final Iterable<Category> categories) {
+        final var names = new ArrayList<String>();
+        categories.forEach(category -> names.add(category.getName()));
+        return names;
+    }
+}
@@ -0,0 +1,122 @@
+package com.matheusjfa.infrastructure.category.cache;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.infrastructure.category.InMemoryCategoryGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingCategoryGatewayTest {
+
+    @Test
+    @DisplayName("Dado uma categoria já lida, quando chamar 'findById' novamente, não deve consultar o gateway decorado")
+    public void givenACachedCategory_whenCallingFindByIdAgain_thenShouldNotHitTheDelegate() {
+        final var delegate = new CountingGateway();
+        final var gateway = new CachingCategoryGateway(delegate, 100, Duration.ofMinutes(1));
+        final var category = gateway.create(Category.create("Filmes", null, true));
+
+        gateway.findById(category.getId());
+        final var found = gateway.findById(category.getId()).orElseThrow();
+
+        assertEquals("Filmes", found.getName());
+        assertEquals(1, delegate.reads);
+        assertEquals(new CacheStats(1, 1, 0), gateway.stats());
+    }
+
+    @Test
+    @DisplayName("Dado uma categoria em cache, quando chamar 'update' ou 'deleteById', a entrada deve ser invalidada")
+    public void givenACachedCategory_whenCallingUpdateOrDelete_thenEntryShouldBeInvalidated() {
+        final var gateway = new CachingCategoryGateway(new InMemoryCategoryGateway(), 100, Duration.ofMinutes(1));
+        final var category = gateway.create(Category.create("Filmes", null, true));
+        gateway.findById(category.getId());
+
+        gateway.update(Category.with(category).update("Séries", null, true));
+        assertEquals("Séries", gateway.findById(category.getId()).orElseThrow().getName());
+
+        gateway.deleteById(category.getId());
+        assertTrue(gateway.findById(category.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado um cache cheio, quando ler uma nova categoria, a menos usada recentemente deve ser removida")
+    public void givenAFullCache_whenReadingANewCategory_thenLeastRecentlyUsedShouldBeEvicted() {
+        final var delegate = new CountingGateway();
+        final var gateway = new CachingCategoryGateway(delegate, 1, Duration.ofMinutes(1));
+        final var first = gateway.create(Category.create("Filmes", null, true));
+        final var second = gateway.create(Category.create("Séries", null, true));
+
+        gateway.findById(first.getId());
+        gateway.findById(second.getId());
+        gateway.findById(first.getId());
+
+        assertEquals(3, delegate.reads);
+        assertEquals(2, gateway.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("Dado uma entrada expirada, quando chamar 'findById', deve consultar o gateway decorado novamente")
+    public void givenAnExpiredEntry_whenCallingFindById_thenShouldHitTheDelegateAgain() {
+        final var delegate = new CountingGateway();
+        final var clock = new AtomicLong();
+        final var gateway = new CachingCategoryGateway(delegate, 100, Duration.ofSeconds(10), clock::get);
+        final var category = gateway.create(Category.create("Filmes", null, true));
+
+        gateway.findById(category.getId());
+        clock.addAndGet(Duration.ofSeconds(11).toNanos());
+        gateway.findById(category.getId());
+
+        assertEquals(2, delegate.reads);
+        assertEquals(0, gateway.stats().hits());
+    }
+
+    @Test
+    @DisplayName("Dado uma invalidação durante a carga, quando for do mesmo ID, o valor carregado não deve ser guardado, e quando for de outro ID, deve")
+    public void givenAnInvalidationDuringALoad_whenItIsForTheSameId_thenLoadedValueShouldNotBeCachedButOtherwiseItShould() {
+        final var delegate = new CountingGateway();
+        final var gateway = new CachingCategoryGateway(delegate, 1, Duration.ofMinutes(1));
+        final var loaded = gateway.create(Category.create("Filmes", null, true));
+        final var other = CategoryID.generate();
+
+        delegate.duringRead = () -> gateway.invalidate(other);
+        gateway.findById(loaded.getId());
+        gateway.findById(loaded.getId());
+        assertEquals(1, delegate.reads);
+
+        gateway.invalidate(loaded.getId());
+        delegate.duringRead = () -> gateway.invalidate(loaded.getId());
+        gateway.findById(loaded.getId());
+        delegate.duringRead = () -> {
+        };
+        gateway.findById(loaded.getId());
+        assertEquals(3, delegate.reads);
+    }
+
+    @Test
+    @DisplayName("Dado um tempo de expiração nulo, negativo ou grande demais, quando criar o cache, deve lançar uma exceção")
+    public void givenANonPositiveOrUnboundedTtl_whenCreatingTheCache_thenShouldThrowAnException() {
+        final var delegate = new InMemoryCategoryGateway();
+
+        assertThrows(IllegalArgumentException.class, () -> new CachingCategoryGateway(delegate, 100, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new CachingCategoryGateway(delegate, 100, Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> new CachingCategoryGateway(delegate, 100, Duration.ofDays(365L * 1_000)));
+    }
+
+    private static class CountingGateway extends InMemoryCategoryGateway {
+        private int reads;
+        private Runnable duringRead = () -> {
+        };
+
+        @Override
+        public Optional<Category> findById(final CategoryID id) {
+            this.reads++;
+            this.duringRead.run();
+            return super.findById(id);
+        }
+    }
+}
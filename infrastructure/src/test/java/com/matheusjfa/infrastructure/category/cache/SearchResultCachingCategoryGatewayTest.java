@@ -0,0 +1,81 @@
+package com.matheusjfa.infrastructure.category.cache;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategorySearchQuery;
+import com.matheusjfa.domain.pagination.Pagination;
+import com.matheusjfa.infrastructure.category.InMemoryCategoryGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchResultCachingCategoryGatewayTest {
+
+    private static final CategorySearchQuery ACTIVE_BY_NAME = new CategorySearchQuery(0, 10, "", "name", "asc", true);
+
+    @Test
+    @DisplayName("Dado uma consulta já feita, quando chamar 'findAll' com uma consulta igual, não deve consultar o gateway decorado")
+    public void givenAQueryAlreadyMade_whenCallingFindAllWithAnEqualQuery_thenShouldNotHitTheDelegate() {
+        final var delegate = new CountingGateway();
+        final var gateway = new SearchResultCachingCategoryGateway(delegate, 1 << 20);
+        gateway.create(Category.create("Filmes", null, true));
+
+        final var first = gateway.findAll(ACTIVE_BY_NAME);
+        final var second = gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc", true));
+
+        assertSame(first, second);
+        assertEquals(1, delegate.searches);
+        assertEquals(new CacheStats(1, 1, 0), gateway.stats());
+        assertEquals(0.5, gateway.stats().hitRatio());
+    }
+
+    @Test
+    @DisplayName("Dado páginas em cache, quando gravar pelo decorador, todas devem ser invalidadas")
+    public void givenCachedPages_whenWritingThroughTheDecorator_thenAllPagesShouldBeInvalidated() {
+        final var delegate = new CountingGateway();
+        final var gateway = new SearchResultCachingCategoryGateway(delegate, 1 << 20);
+        final var category = gateway.create(Category.create("Filmes", null, true));
+        final var inactive = new CategorySearchQuery(0, 10, "", "name", "asc", false);
+
+        gateway.findAll(ACTIVE_BY_NAME);
+        gateway.findAll(inactive);
+        gateway.update(category.deactivate());
+
+        assertEquals(0, gateway.findAll(ACTIVE_BY_NAME).total());
+        assertEquals(1, gateway.findAll(inactive).total());
+
+        gateway.deleteById(category.getId());
+
+        assertEquals(0, gateway.findAll(inactive).total());
+        assertEquals(5, delegate.searches);
+        assertEquals(0, gateway.stats().hits());
+    }
+
+    @Test
+    @DisplayName("Dado um limite de memória pequeno, quando guardar muitas páginas, as mais antigas devem ser removidas")
+    public void givenASmallMemoryLimit_whenCachingManyPages_thenOldestPagesShouldBeEvicted() {
+        final var delegate = new CountingGateway();
+        final var gateway = new SearchResultCachingCategoryGateway(delegate, 16 * 1_000);
+
+        for (int i = 0; i < 4; i++) {
+            gateway.create(Category.create("Categoria " + i, "Descrição " + i, true));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            gateway.findAll(new CategorySearchQuery(0, 4, "categoria " + i, "name", "asc", true));
+        }
+
+        assertTrue(gateway.stats().evictions() > 0);
+        assertEquals(200, gateway.stats().misses());
+    }
+
+    private static class CountingGateway extends InMemoryCategoryGateway {
+        private int searches;
+
+        @Override
+        public Pagination<Category> findAll(final CategorySearchQuery query) {
+            this.searches++;
+            return super.findAll(query);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.matheusjfa.infrastructure.category.codec;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryCodecTest {
+
+    @Test
+    @DisplayName("Dado categorias com e sem campos nulos, quando codificar e decodificar, todos os campos devem ser preservados")
+    public void givenCategoriesWithAndWithoutNulls_whenEncodingAndDecoding_thenAllFieldsShouldBePreserved() {
+        final var complete = Category.with(
+                CategoryID.generate(),
+                "Ação & Aventura 🎬",
+                "Descrição com acentos, aspas \" e quebra\nde linha",
+                false,
+                Instant.parse("2024-01-02T03:04:05.123456789Z"),
+                Instant.parse("2024-02-03T04:05:06Z"),
+                Instant.parse("2024-03-04T05:06:07.5Z"),
+                300
+        );
+        final var sparse = Category.with(CategoryID.from("legacy-id"), null, null, true, null, null, null, 0);
+
+        for (final var category : new Category[]{complete, sparse}) {
+            for (final var buffer : new ByteBuffer[]{ByteBuffer.allocate(512), ByteBuffer.allocateDirect(512)}) {
+                CategoryCodec.encode(category, buffer);
+                assertEquals(CategoryCodec.encodedSize(category), buffer.position());
+
+                final var decoded = CategoryCodec.decode(buffer.flip());
+
+                assertFalse(buffer.hasRemaining());
+                assertEquals(category.getId(), decoded.getId());
+                assertEquals(category.getName(), decoded.getName());
+                assertEquals(category.getDescription(), decoded.getDescription());
+                assertEquals(category.isActive(), decoded.isActive());
+                assertEquals(category.getCreatedAt(), decoded.getCreatedAt());
+                assertEquals(category.getUpdatedAt(), decoded.getUpdatedAt());
+                assertEquals(category.getDeletedAt(), decoded.getDeletedAt());
+                assertEquals(category.getVersion(), decoded.getVersion());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Dado um ID UUID e um ID livre, quando codificar, o UUID deve ocupar 16 bytes fixos e ambos devem ser decodificados")
+    public void givenUuidAndFreeFormIds_whenEncoding_thenUuidShouldUseSixteenBytesAndBothShouldDecode() {
+        final var uuid = CategoryID.generate();
+        final var freeForm = CategoryID.from("categoria-123");
+
+        assertEquals(1 + 16, CategoryCodec.encodedSize(uuid));
+
+        final var buffer = ByteBuffer.allocate(64);
+        CategoryCodec.encode(uuid, buffer);
+        CategoryCodec.encode(freeForm, buffer);
+        buffer.flip();
+
+        assertEquals(uuid, CategoryCodec.decodeId(buffer));
+        assertEquals(freeForm, CategoryCodec.decodeId(buffer));
+    }
+
+    @Test
+    @DisplayName("Dado uma versão de codificação desconhecida, quando decodificar, deve lançar uma exceção")
+    public void givenAnUnknownEncodingVersion_whenDecoding_thenShouldThrowAnException() {
+        final var buffer = ByteBuffer.allocate(64);
+        CategoryCodec.encode(Category.create("Filmes", null, true), buffer);
+        buffer.put(0, (byte) 99).flip();
+
+        assertThrows(IllegalArgumentException.class, () -> CategoryCodec.decode(buffer));
+    }
+}
@@ -0,0 +1,73 @@
+package com.matheusjfa.infrastructure.category.events;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryCreated;
+import com.matheusjfa.domain.category.CategoryDeactivated;
+import com.matheusjfa.domain.category.CategoryDeleted;
+import com.matheusjfa.domain.category.CategoryUpdated;
+import com.matheusjfa.domain.events.DomainEvent;
+import com.matheusjfa.domain.exceptions.ConcurrencyConflictException;
+import com.matheusjfa.infrastructure.category.InMemoryCategoryGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventPublishingCategoryGatewayTest {
+
+    @Test
+    @DisplayName("Dado escritas aceitas, quando gravar pelo decorador, deve publicar os eventos de cada escrita depois dela")
+    public void givenAcceptedWrites_whenWritingThroughTheDecorator_thenPublishEachWriteEvents() {
+        final var published = new ArrayList<List<? extends DomainEvent>>();
+        final var gateway = new EventPublishingCategoryGateway(new InMemoryCategoryGateway(), published::add);
+
+        final var created = gateway.create(Category.create("Filmes", null, true));
+        final var updated = gateway.update(created.update("Séries", null, false));
+        assertTrue(gateway.deleteById(updated.getId()));
+        assertFalse(gateway.deleteById(updated.getId()));
+
+        assertEquals(3, published.size());
+        assertEquals(List.of(CategoryCreated.class), types(published.get(0)));
+        assertEquals(List.of(CategoryUpdated.class, CategoryDeactivated.class), types(published.get(1)));
+        assertEquals(List.of(CategoryDeleted.class), types(published.get(2)));
+        assertTrue(created.getEvents().isEmpty());
+        assertTrue(updated.getEvents().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Dado um conflito de versão, quando chamar 'update', não deve publicar eventos")
+    public void givenAVersionConflict_whenCallingUpdate_thenPublishNothing() {
+        final var published = new ArrayList<List<? extends DomainEvent>>();
+        final var gateway = new EventPublishingCategoryGateway(new InMemoryCategoryGateway(), published::add);
+        final var created = gateway.create(Category.create("Filmes", null, true));
+        gateway.update(created.update("Séries", null, true));
+        published.clear();
+
+        final var stale = created.update("Documentários", null, true);
+
+        assertThrows(ConcurrencyConflictException.class, () -> gateway.update(stale));
+        assertTrue(published.isEmpty());
+        assertEquals(1, stale.getEvents().size());
+    }
+
+    @Test
+    @DisplayName("Dado um publicador que falha, quando gravar pelo decorador, a escrita deve ser mantida e a falha contada")
+    public void givenAFailingPublisher_whenWritingThroughTheDecorator_thenKeepTheWriteAndCountTheFailure() {
+        final var delegate = new InMemoryCategoryGateway();
+        final var gateway = new EventPublishingCategoryGateway(delegate, events -> {
+            throw new IllegalStateException("publicador indisponível");
+        });
+
+        final var created = gateway.create(Category.create("Filmes", null, true));
+
+        assertTrue(delegate.findById(created.getId()).isPresent());
+        assertEquals(1, gateway.publishFailures());
+    }
+
+    private static List<Class<?>> types(final List<? extends DomainEvent> events) {
+        return events.stream().<Class<?>>map(Object::getClass).toList();
+    }
+}
@@ -0,0 +1,144 @@
+package com.matheusjfa.infrastructure.category.ndjson;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.infrastructure.category.InMemoryCategoryGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryNdjsonTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Dado um catálogo exportado em gzip, quando importá-lo em outro gateway, todas as categorias devem ser reconstruídas")
+    public void givenAGzipExport_whenImportingIntoAnotherGateway_thenAllCategoriesShouldBeRebuilt() throws Exception {
+        final var source = new InMemoryCategoryGateway();
+        final var quoted = source.create(Category.create("Filmes \"clássicos\"", "Linha 1\nLinha 2\t\\ fim", true));
+        final var inactive = source.create(Category.create("Séries", null, false));
+
+        for (int i = 0; i < 2_500; i++) {
+            source.create(Category.create("Categoria " + i, null, true));
+        }
+
+        final var file = this.directory.resolve("categories.ndjson.gz");
+
+        assertEquals(2_502, new CategoryExporter(source).exportTo(file));
+
+        final var target = new InMemoryCategoryGateway();
+        final var result = new CategoryImporter(target, 100, 4).importFrom(file);
+
+        assertEquals(2_502, result.imported());
+        assertEquals(0, result.rejected());
+
+        final var reloadedQuoted = target.findById(quoted.getId()).orElseThrow();
+        final var reloadedInactive = target.findById(inactive.getId()).orElseThrow();
+
+        assertEquals(quoted.getName(), reloadedQuoted.getName());
+        assertEquals(quoted.getDescription(), reloadedQuoted.getDescription());
+        assertEquals(quoted.getCreatedAt(), reloadedQuoted.getCreatedAt());
+        assertNull(reloadedInactive.getDescription());
+        assertFalse(reloadedInactive.isActive());
+        assertEquals(inactive.getDeletedAt(), reloadedInactive.getDeletedAt());
+    }
+
+    @Test
+    @DisplayName("Dado linhas malformadas, inválidas ou repetidas, quando importar, apenas elas devem ser rejeitadas")
+    public void givenMalformedInvalidOrDuplicateLines_whenImporting_thenOnlyThoseShouldBeRejected() throws Exception {
+        final var target = new InMemoryCategoryGateway();
+        final var existing = target.create(Category.create("Filmes", null, true));
+        final var fresh = CategoryID.generate().getValue();
+        final var timestamps = "\"createdAt\":\"2024-01-01T00:00:00Z\",\"updatedAt\":\"2024-01-01T00:00:00Z\"";
+
+        final var file = this.directory.resolve("categories.ndjson");
+        Files.write(file, List.of(
+                "{\"id\":\"%s\",\"name\":\"Documentários\",\"isActive\":true,%s}".formatted(fresh, timestamps),
+                "{\"id\":\"%s\",\"name\":\"Filmes\",\"isActive\":true,%s}".formatted(existing.getId().getValue(), timestamps),
+                "",
+                "{\"id\":\"abc\",\"name\":\"ab\",\"isActive\":true,%s}".formatted(timestamps),
+                "{\"id\":\"def\",\"name\":",
+                "{\"id\":\"ghi\",\"name\":\"Séries\",\"isActive\":true,\"createdAt\":\"2024-01-01T00:00:00Z\"}"
+        ), StandardCharsets.UTF_8);
+
+        final var result = new CategoryImporter(target, 10, 2).importFrom(file);
+
+        assertEquals(1, result.imported());
+        assertEquals(4, result.rejected());
+        assertTrue(target.findById(CategoryID.from(fresh)).isPresent());
+        assertTrue(target.findById(CategoryID.from("ghi")).isEmpty());
+
+        assertEquals(4, result.errors().size());
+        assertTrue(result.errors().get(0).message().startsWith("Linha 2: "));
+        assertEquals("Linha 4: O nome da categoria deve ter entre 3 e 255 caracteres", result.errors().get(1).message());
+        assertTrue(result.errors().get(2).message().startsWith("Linha 5: JSON de categoria inválido"));
+        assertTrue(result.errors().get(3).message().endsWith("campo 'updatedAt' ausente"));
+    }
+
+    @Test
+    @DisplayName("Dado datas com frações de tamanhos variados e linhas terminadas em CRLF, quando importar, as datas devem ser as de Instant.parse")
+    public void givenTimestampsWithVariousFractionsAndCrlfLines_whenImporting_thenTheyShouldMatchInstantParse() throws Exception {
+        final var timestamps = List.of(
+                "2024-02-29T23:59:59Z",
+                "2024-01-01T00:00:00.5Z",
+                "1970-01-01T00:00:00.123456789Z",
+                "0001-01-01T00:00:00.000001Z",
+                "+10000-01-01T00:00:00Z"
+        );
+        final var lines = new StringBuilder();
+        final var ids = new ArrayList<CategoryID>();
+
+        for (final var timestamp : timestamps) {
+            final var id = CategoryID.generate();
+            ids.add(id);
+            lines.append("{\"id\":\"%s\",\"name\":\"Filmes\",\"isActive\":true,\"createdAt\":\"%s\",\"updatedAt\":\"%s\"}\r\n"
+                    .formatted(id.getValue(), timestamp, timestamp));
+        }
+
+        final var file = this.directory.resolve("categories.ndjson");
+        Files.writeString(file, lines, StandardCharsets.UTF_8);
+
+        final var target = new InMemoryCategoryGateway();
+        final var result = new CategoryImporter(target, 10, 1).importFrom(file);
+
+        assertEquals(timestamps.size(), result.imported());
+
+        for (int i = 0; i < timestamps.size(); i++) {
+            final var category = target.findById(ids.get(i)).orElseThrow();
+            assertEquals(Instant.parse(timestamps.get(i)), category.getCreatedAt());
+            assertEquals("Filmes", category.getName());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> CategoryJson.read(
+                "{\"id\":\"a\",\"createdAt\":\"2023-02-29T00:00:00Z\",\"updatedAt\":\"2023-02-29T00:00:00Z\"}"));
+    }
+
+    @Test
+    @DisplayName("Dado chaves desconhecidas com números decimais, objetos e arrays aninhados, quando ler a linha, elas devem ser ignoradas")
+    public void givenUnknownKeysWithDecimalsAndNestedValues_whenReading_thenTheyShouldBeSkipped() {
+        final var id = CategoryID.generate().getValue();
+        final var line = ("{\"id\":\"%s\",\"rating\":-4.75e+2,\"meta\":{\"tags\":[1.5,{\"a\":[]},\"x\",null,true],\"empty\":{}},"
+                + "\"name\":\"Filmes\",\"isActive\":true,\"createdAt\":\"2024-01-01T00:00:00Z\",\"updatedAt\":\"2024-01-01T00:00:00Z\",\"score\":0.1E-3}")
+                .formatted(id);
+
+        final var category = CategoryJson.read(line);
+
+        assertEquals(id, category.getId().getValue());
+        assertEquals("Filmes", category.getName());
+        assertTrue(category.isActive());
+
+        assertThrows(IllegalArgumentException.class, () -> CategoryJson.read(line.replace("-4.75e+2", "4.")));
+        assertThrows(IllegalArgumentException.class, () -> CategoryJson.read(line.replace("[1.5,", "[1.5")));
+        assertThrows(IllegalArgumentException.class, () -> CategoryJson.read(line.replace("\"empty\":{}", "\"empty\":" + "[".repeat(100) + "]".repeat(100))));
+    }
+}
@@ -0,0 +1,205 @@
+package com.matheusjfa.infrastructure.category.persistence;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategorySearchQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteAheadLogCategoryGatewayTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Dado categorias gravadas, quando reabrir o gateway, o estado deve ser reconstruído a partir do log")
+    public void givenWrittenCategories_whenReopeningTheGateway_thenStateShouldBeRebuiltFromTheLog() throws Exception {
+        final var file = this.directory;
+        final Category kept;
+        final Category updated;
+        final Category deleted;
+
+        try (final var gateway = WriteAheadLogCategoryGateway.open(file, Duration.ZERO)) {
+            kept = gateway.create(Category.create("Filmes", "Filmes em geral", true));
+            updated = gateway.create(Category.create("Séries", null, true));
+            deleted = gateway.create(Category.create("Documentários", null, true));
+            gateway.createAll(List.of(Category.create("Animação", null, false), Category.create("Terror", null, true)));
+
+            gateway.update(Category.with(updated).update("Séries de TV", "Episódios", false));
+            gateway.deleteById(deleted.getId());
+        }
+
+        try (final var gateway = WriteAheadLogCategoryGateway.open(file, Duration.ZERO)) {
+            final var reloadedKept = gateway.findById(kept.getId()).orElseThrow();
+            final var reloadedUpdated = gateway.findById(updated.getId()).orElseThrow();
+
+            assertEquals("Filmes", reloadedKept.getName());
+            assertEquals(kept.getCreatedAt(), reloadedKept.getCreatedAt());
+            assertEquals("Séries de TV", reloadedUpdated.getName());
+            assertEquals("Episódios", reloadedUpdated.getDescription());
+            assertFalse(reloadedUpdated.isActive());
+            assertNotNull(reloadedUpdated.getDeletedAt());
+            assertEquals(1, reloadedUpdated.getVersion());
+            assertTrue(gateway.findById(deleted.getId()).isEmpty());
+            assertEquals(4, gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).total());
+        }
+    }
+
+    @Test
+    @DisplayName("Dado um log com o final incompleto, quando reabrir o gateway, o registro incompleto deve ser descartado")
+    public void givenALogWithATornTail_whenReopeningTheGateway_thenTheTornRecordShouldBeDiscarded() throws Exception {
+        final var file = WriteAheadLogCategoryGateway.segmentPath(this.directory, 0);
+        final Category category;
+
+        try (final var gateway = WriteAheadLogCategoryGateway.open(this.directory, Duration.ZERO)) {
+            category = gateway.create(Category.create("Filmes", null, true));
+        }
+
+        final var validSize = Files.size(file);
+        try (final var channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 42, 1, 2, 3}));
+        }
+
+        try (final var gateway = WriteAheadLogCategoryGateway.open(this.directory, Duration.ZERO)) {
+            assertTrue(gateway.findById(category.getId()).isPresent());
+            assertEquals(validSize, Files.size(file));
+
+            gateway.create(Category.create("Séries", null, true));
+        }
+
+        try (final var gateway = WriteAheadLogCategoryGateway.open(this.directory, Duration.ZERO)) {
+            assertEquals(2, gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).total());
+        }
+    }
+
+    @Test
+    @DisplayName("Dado vários escritores concorrentes com janela de durabilidade, quando reabrir o gateway, nenhuma escrita deve ser perdida")
+    public void givenConcurrentWritersWithADurabilityWindow_whenReopening_thenNoWriteShouldBeLost() throws Exception {
+        final var file = this.directory;
+        final var threads = 8;
+        final var perThread = 50;
+
+        try (final var gateway = WriteAheadLogCategoryGateway.open(file, Duration.ofMillis(2))) {
+            final var executor = Executors.newFixedThreadPool(threads);
+            try {
+                final var tasks = new ArrayList<Callable<Void>>();
+                for (int t = 0; t < threads; t++) {
+                    tasks.add(() -> {
+                        for (int i = 0; i < perThread; i++) {
+                            gateway.create(Category.create("Categoria " + i, null, true));
+                        }
+                        return null;
+                    });
+                }
+
+                for (final Future<Void> future : executor.invokeAll(tasks)) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        try (final var gateway = WriteAheadLogCategoryGateway.open(file, Duration.ZERO)) {
+            assertEquals(threads * perThread, gateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc")).total());
+        }
+    }
+
+    @Test
+    @DisplayName("Dado um snapshot seguido de novas escritas, quando reabrir o gateway, deve carregar o snapshot e a cauda do log")
+    public void givenASnapshotFollowedByNewWrites_whenReopening_thenShouldLoadSnapshotAndLogTail() throws Exception {
+        final Category beforeSnapshot;
+        final Category afterSnapshot;
+        final Category deletedAfterSnapshot;
+
+        try (final var gateway = WriteAheadLogCategoryGateway.open(this.directory, Duration.ZERO)) {
+            beforeSnapshot = gateway.create(Category.create("Filmes", "Antes do snapshot", true));
+            deletedAfterSnapshot = gateway.create(Category.create("Séries", null, true));
+
+            gateway.snapshot();
+
+            afterSnapshot = gateway.create(Category.create("Documentários", null, true));
+            gateway.update(Category.with(beforeSnapshot).update("Filmes", "Depois do snapshot", true));
+            gateway.deleteById(deletedAfterSnapshot.getId());
+        }
+
+        assertTrue(Files.exists(this.directory.resolve(WriteAheadLogCategoryGateway.SNAPSHOT_FILE)));
+        assertFalse(Files.exists(WriteAheadLogCategoryGateway.segmentPath(this.directory, 0)));
+        assertTrue(Files.exists(WriteAheadLogCategoryGateway.segmentPath(this.directory, 1)));
+
+        try (final var gateway = WriteAheadLogCategoryGateway.open(this.directory, Duration.ZERO)) {
+            assertEquals("Depois do snapshot", gateway.findById(beforeSnapshot.getId()).orElseThrow().getDescription());
+            assertTrue(gateway.findById(afterSnapshot.getId()).isPresent());
+            assertTrue(gateway.findById(deletedAfterSnapshot.getId()).isEmpty());
+            assertEquals(2, gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).total());
+        }
+    }
+
+    @Test
+    @DisplayName("Dado uma falha ao gravar o log, quando escrever, a escrita não deve aparecer nas leituras")
+    public void givenALogFlushFailure_whenWriting_thenTheWriteShouldNotBeVisible() throws Exception {
+        try (final var gateway = WriteAheadLogCategoryGateway.open(this.directory, Duration.ZERO)) {
+            final var existing = gateway.create(Category.create("Filmes", null, true));
+
+            gateway.currentLog().channel().close();
+
+            final var category = Category.create("Séries", null, true);
+            assertThrows(UncheckedIOException.class, () -> gateway.create(category));
+            assertThrows(UncheckedIOException.class, () -> gateway.update(Category.with(existing).update("Filmes de ação", null, true)));
+            assertThrows(UncheckedIOException.class, () -> gateway.deleteById(existing.getId(), existing.getVersion()));
+
+            assertTrue(gateway.findById(category.getId()).isEmpty());
+            assertEquals("Filmes", gateway.findById(existing.getId()).orElseThrow().getName());
+            assertEquals(1, gateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc")).total());
+        }
+    }
+
+    @Test
+    @DisplayName("Dado uma escrita pendente, quando a gravação do log for interrompida, a escrita deve falhar em vez de esperar para sempre")
+    public void givenAPendingWrite_whenTheFlusherIsInterrupted_thenTheWriteShouldFail() throws Exception {
+        try (final var gateway = WriteAheadLogCategoryGateway.open(this.directory, Duration.ofMinutes(1))) {
+            final var executor = Executors.newSingleThreadExecutor();
+            try {
+                final var category = Category.create("Filmes", null, true);
+                final var pending = executor.submit(() -> gateway.create(category));
+
+                // A janela de durabilidade segura a escrita no lote do flusher até a interrupção.
+                final var flusher = gateway.currentLog().flusher();
+                while (!isCollectingABatch(flusher)) {
+                    Thread.sleep(1);
+                }
+                flusher.interrupt();
+
+                final var error = assertThrows(ExecutionException.class, () -> pending.get(10, TimeUnit.SECONDS));
+                assertInstanceOf(UncheckedIOException.class, error.getCause());
+                assertTrue(gateway.findById(category.getId()).isEmpty());
+                assertThrows(UncheckedIOException.class, () -> gateway.create(Category.create("Séries", null, true)));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static boolean isCollectingABatch(final Thread flusher) {
+        return Arrays.stream(flusher.getStackTrace())
+                .anyMatch(frame -> frame.getMethodName().equals("collectWithinWindow"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.matheusjfa.infrastructure.category.purge;
+
+import com.matheusjfa.domain.category.Category;
+import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.domain.events.DomainEvent;
+import com.matheusjfa.infrastructure.category.InMemoryCategoryGateway;
+import com.matheusjfa.infrastructure.category.events.EventPublishingCategoryGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryPurgeJobTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-01T00:00:00Z");
+    private static final CategoryPurgePolicy POLICY = new CategoryPurgePolicy(Duration.ofDays(30), 2, 10_000, Duration.ZERO);
+
+    @Test
+    @DisplayName("Dado categorias desativadas antes e depois da retenção, quando executar a limpeza, deve arquivar e remover apenas as expiradas")
+    public void givenCategoriesDeactivatedBeforeAndAfterRetention_whenPurging_thenArchiveAndRemoveOnlyExpiredOnes() {
+        final var gateway = new InMemoryCategoryGateway();
+        final var expired = List.of(
+                gateway.create(category("Faroeste", false, NOW.minus(Duration.ofDays(90)))),
+                gateway.create(category("Musical", false, NOW.minus(Duration.ofDays(45)))),
+                gateway.create(category("Noir", false, NOW.minus(Duration.ofDays(31))))
+        );
+        final var recent = gateway.create(category("Terror", false, NOW.minus(Duration.ofDays(1))));
+        final var active = gateway.create(category("Filmes", true, null));
+
+        final var archived = new ArrayList<List<Category>>();
+
+        try (final var job = new CategoryPurgeJob(gateway, POLICY, archived::add, Clock.fixed(NOW, ZoneOffset.UTC))) {
+            assertEquals(3, job.purge());
+            assertEquals(0, job.purge());
+            assertEquals(3, job.purged());
+        }
+
+        assertEquals(List.of(2, 1), archived.stream().map(List::size).toList());
+        expired.forEach(category -> assertTrue(gateway.findById(category.getId()).isEmpty()));
+        assertTrue(gateway.findById(recent.getId()).isPresent());
+        assertTrue(gateway.findById(active.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Dado uma categoria reativada durante a limpeza, quando removê-la, deve mantê-la (já arquivada) e contar o conflito")
+    public void givenACategoryReactivatedDuringThePurge_whenRemovingIt_thenKeepItAndCountTheConflict() {
+        final var reactivatedId = CategoryID.generate();
+        final var gateway = new InMemoryCategoryGateway() {
+            @Override
+            public boolean deleteById(final CategoryID id, final long expectedVersion) {
+                if (id.equals(reactivatedId)) {
+                    update(findById(id).orElseThrow().activate());
+                }
+                return super.deleteById(id, expectedVersion);
+            }
+        };
+        final var deletedAt = NOW.minus(Duration.ofDays(90));
+        final var reactivated = gateway.create(Category.with(reactivatedId, "Faroeste", null, false, deletedAt, deletedAt, deletedAt));
+        final var removed = gateway.create(category("Musical", false, deletedAt));
+
+        final var archived = new ArrayList<Category>();
+        final var job = new CategoryPurgeJob(gateway, POLICY, archived::addAll, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertEquals(1, job.purge());
+        assertEquals(1, job.conflicts());
+        assertTrue(gateway.findById(reactivated.getId()).orElseThrow().isActive());
+        assertTrue(gateway.findById(removed.getId()).isEmpty());
+        assertEquals(List.of(removed.getId(), reactivated.getId()), archived.stream().map(Category::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Dado um arquivamento que falha, quando executar a limpeza, nenhuma categoria deve ser removida nem ter a remoção publicada")
+    public void givenAFailingArchive_whenPurging_thenNothingShouldBeRemovedNorPublished() {
+        final var events = new ArrayList<DomainEvent>();
+        final var gateway = new EventPublishingCategoryGateway(new InMemoryCategoryGateway(), events::addAll);
+        final var expired = gateway.create(category("Faroeste", false, NOW.minus(Duration.ofDays(90))));
+
+        final var job = new CategoryPurgeJob(gateway, POLICY, batch -> {
+            throw new IllegalStateException("arquivo indisponível");
+        }, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertThrows(IllegalStateException.class, job::purge);
+        assertEquals(0, job.purged());
+        assertEquals(expired.getVersion(), gateway.findById(expired.getId()).orElseThrow().getVersion());
+        assertTrue(events.isEmpty());
+    }
+
+    private static Category category(final String name, final boolean isActive, final Instant deletedAt) {
+        final var createdAt = NOW.minus(Duration.ofDays(365));
+        return Category.with(CategoryID.generate(), name, null, isActive, createdAt, deletedAt == null ? createdAt : deletedAt, deletedAt);
+    }
+}
@@ -0,0 +1,121 @@
+package com.matheusjfa.infrastructure.events;
+
+import com.matheusjfa.domain.category.CategoryCreated;
+import com.matheusjfa.domain.category.CategoryID;
+import com.matheusjfa.domain.events.DomainEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferEventDispatcherTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int EVENTS_PER_PRODUCER = 2_000;
+
+    @Test
+    @DisplayName("Dado vários produtores e um buffer pequeno, quando publicar eventos, cada assinante deve receber todos em ordem e em lotes limitados")
+    public void givenManyProducersAndASmallBuffer_whenPublishing_thenEverySubscriberReceivesAllEventsInOrderAndInBoundedBatches() throws Exception {
+        final var first = Collections.synchronizedList(new ArrayList<DomainEvent>());
+        final var second = Collections.synchronizedList(new ArrayList<DomainEvent>());
+        final var largestBatch = new AtomicInteger();
+
+        final var dispatcher = new RingBufferEventDispatcher(64, 16, List.of(
+                batch -> {
+                    largestBatch.accumulateAndGet(batch.size(), Math::max);
+                    first.addAll(batch);
+                },
+                second::addAll
+        ));
+
+        final var published = Collections.synchronizedList(new ArrayList<DomainEvent>());
+        final var start = new CountDownLatch(1);
+        final var producers = new ArrayList<Thread>();
+
+        for (int p = 0; p < PRODUCERS; p++) {
+            final var producer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException ex) {
+                    return;
+                }
+
+                for (int i = 0; i < EVENTS_PER_PRODUCER; i += 2) {
+                    final var events = List.of(event(), event());
+                    synchronized (published) {
+                        dispatcher.publish(events);
+                        published.addAll(events);
+                    }
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+
+        start.countDown();
+        for (final var producer : producers) {
+            producer.join();
+        }
+        dispatcher.close();
+
+        assertEquals(PRODUCERS * EVENTS_PER_PRODUCER, published.size());
+        assertEquals(published, first);
+        assertEquals(published, second);
+        assertTrue(largestBatch.get() <= 16);
+        assertEquals(0, dispatcher.handlerFailures());
+    }
+
+    @Test
+    @DisplayName("Dado um assinante que falha, quando publicar eventos, a falha deve ser contada sem interromper a entrega")
+    public void givenAFailingSubscriber_whenPublishing_thenCountFailureAndKeepDelivering() throws Exception {
+        final var received = new AtomicInteger();
+        final var dispatcher = new RingBufferEventDispatcher(8, 1, List.of(batch -> {
+            if (received.getAndAdd(batch.size()) == 0) {
+                throw new IllegalStateException("falha no assinante");
+            }
+        }));
+
+        dispatcher.publish(List.of(event()));
+        dispatcher.publish(List.of(event(), event()));
+        dispatcher.close();
+
+        assertEquals(3, received.get());
+        assertEquals(1, dispatcher.handlerFailures());
+        assertThrows(IllegalStateException.class, () -> dispatcher.publish(List.of(event())));
+    }
+
+    @Test
+    @DisplayName("Dado um assinante que lança um Error e um buffer cheio, quando publicar eventos, a publicação não deve travar")
+    public void givenASubscriberThrowingAnError_whenPublishingPastTheBufferCapacity_thenPublishingShouldNotStall() {
+        final var received = new AtomicInteger();
+        final var dispatcher = new RingBufferEventDispatcher(2, 1, List.of(batch -> {
+            if (received.getAndAdd(batch.size()) == 0) {
+                throw new StackOverflowError("falha no assinante");
+            }
+        }));
+
+        for (int i = 0; i < 10; i++) {
+            dispatcher.publish(List.of(event()));
+        }
+
+        Thread.currentThread().interrupt();
+        dispatcher.close();
+        assertTrue(Thread.interrupted());
+
+        dispatcher.close();
+
+        assertEquals(10, received.get());
+        assertEquals(1, dispatcher.handlerFailures());
+    }
+
+    private static DomainEvent event() {
+        return new CategoryCreated(CategoryID.generate(), Instant.now());
+    }
+}